@@ -0,0 +1,70 @@
+package com.orderflow.api.model.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderRequestValidationBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int items;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private OrderRequestDTO request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        List<OrderItemRequestDTO> itemRequests = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            itemRequests.add(OrderItemRequestDTO.builder()
+                    .productName("Product " + i)
+                    .quantity(i % 5 + 1)
+                    .unitPrice(new BigDecimal("19.90"))
+                    .build());
+        }
+        request = OrderRequestDTO.builder()
+                .customerId(1L)
+                .items(itemRequests)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<OrderRequestDTO>> validate() {
+        return validator.validate(request);
+    }
+}
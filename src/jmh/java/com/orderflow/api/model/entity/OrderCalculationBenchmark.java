@@ -0,0 +1,61 @@
+package com.orderflow.api.model.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCalculationBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int items;
+
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = Order.builder().status(OrderStatus.CREATED).build();
+        for (int i = 0; i < items; i++) {
+            OrderItem orderItem = OrderItem.builder()
+                    .productName("Product " + i)
+                    .quantity(i % 5 + 1)
+                    .unitPrice(new BigDecimal("19.90"))
+                    .order(order)
+                    .build();
+            orderItem.calculateSubtotal();
+            order.getItems().add(orderItem);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount() {
+        order.calculateTotalAmount();
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public void calculateSubtotals(Blackhole blackhole) {
+        for (OrderItem item : order.getItems()) {
+            item.calculateSubtotal();
+            blackhole.consume(item.getSubtotal());
+        }
+    }
+}
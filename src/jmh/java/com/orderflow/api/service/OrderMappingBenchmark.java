@@ -0,0 +1,103 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderItem;
+import com.orderflow.api.model.entity.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int items;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Order order;
+    private OrderResponseDTO response;
+    private Page<OrderResponseDTO> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Customer customer = Customer.builder()
+                .id(1L)
+                .name("Acme Industrial Supplies")
+                .email("purchasing@acme.example.com")
+                .documentNumber("12345678901")
+                .build();
+
+        order = Order.builder()
+                .id(1L)
+                .customer(customer)
+                .status(OrderStatus.PROCESSING)
+                .createdAt(LocalDateTime.of(2024, 5, 1, 10, 15, 30))
+                .updatedAt(LocalDateTime.of(2024, 5, 1, 11, 0, 0))
+                .build();
+        for (int i = 0; i < items; i++) {
+            OrderItem item = OrderItem.builder()
+                    .id((long) i + 1)
+                    .productName("Product " + i)
+                    .quantity(i % 5 + 1)
+                    .unitPrice(new BigDecimal("19.90"))
+                    .order(order)
+                    .build();
+            item.calculateSubtotal();
+            order.getItems().add(item);
+        }
+        order.calculateTotalAmount();
+
+        response = OrderService.mapToResponseDTO(order);
+
+        List<OrderResponseDTO> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            content.add(response);
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 10_000);
+    }
+
+    @Benchmark
+    public OrderResponseDTO mapToResponseDTO() {
+        return OrderService.mapToResponseDTO(order);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,34 @@
+package com.orderflow.api.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@RequiredArgsConstructor
+public class DatabaseFeatures {
+
+    private final DataSource dataSource;
+
+    private volatile Boolean postgres;
+
+    public boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = "PostgreSQL".equals(productName());
+            postgres = result;
+        }
+        return result;
+    }
+
+    private String productName() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Unable to detect database product", ex);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.orderflow.api.config;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.service.OrderProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Default processing step, which completes every order it is given. Declaring any other
+ * {@link OrderProcessor} bean replaces it.
+ */
+@Configuration(proxyBeanMethods = false)
+public class OrderProcessingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OrderProcessor.class)
+    OrderProcessor completingOrderProcessor() {
+        return order -> OrderStatus.COMPLETED;
+    }
+}
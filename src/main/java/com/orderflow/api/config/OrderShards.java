@@ -0,0 +1,82 @@
+package com.orderflow.api.config;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The databases orders are spread over in sharded mode. All orders of a customer live on one
+ * shard, picked on a consistent-hash ring that holds {@code virtualNodes} points per shard. Adding
+ * a shard therefore only moves the customers whose ring segments the new shard takes over, about
+ * one in N+1, instead of reshuffling almost everyone as {@code customerId % N} would.
+ */
+public class OrderShards implements Closeable {
+
+    private final List<Shard> shards;
+    private final NavigableMap<Long, Shard> ring = new TreeMap<>();
+
+    public OrderShards(List<Shard> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        for (Shard shard : shards) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash(shard.name() + "#" + node), shard);
+            }
+        }
+    }
+
+    public List<Shard> all() {
+        return shards;
+    }
+
+    public Shard forCustomer(long customerId) {
+        Map.Entry<Long, Shard> owner = ring.ceilingEntry(hash(Long.toString(customerId)));
+        return (owner != null ? owner : ring.firstEntry()).getValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Shard shard : shards) {
+            try {
+                if (shard.dataSource().isWrapperFor(Closeable.class)) {
+                    shard.dataSource().unwrap(Closeable.class).close();
+                }
+            } catch (SQLException ex) {
+                throw new IOException("Failed to close " + shard.name(), ex);
+            }
+        }
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("MD5 is not available", ex);
+        }
+    }
+
+    public record Shard(String name, DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate,
+                        TransactionTemplate transactionTemplate) {
+
+        public static Shard of(String name, DataSource dataSource) {
+            return new Shard(name, dataSource, new NamedParameterJdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        }
+    }
+}
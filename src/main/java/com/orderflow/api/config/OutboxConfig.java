@@ -0,0 +1,32 @@
+package com.orderflow.api.config;
+
+import com.orderflow.api.service.InMemoryOutboxSink;
+import com.orderflow.api.service.LoggingOutboxSink;
+import com.orderflow.api.service.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Built-in outbox sinks, selected with {@code orderflow.outbox.sink}. Declaring any other
+ * {@link OutboxSink} bean replaces them.
+ */
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(name = "orderflow.outbox.sink", havingValue = "log", matchIfMissing = true)
+    LoggingOutboxSink loggingOutboxSink() {
+        return new LoggingOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(name = "orderflow.outbox.sink", havingValue = "memory")
+    InMemoryOutboxSink inMemoryOutboxSink(@Value("${orderflow.outbox.memory-capacity:10000}") int capacity) {
+        return new InMemoryOutboxSink(capacity);
+    }
+}
@@ -0,0 +1,79 @@
+package com.orderflow.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Pins a client to the primary for {@code pinDuration} after it sends a write, so its next reads
+ * see what it just wrote instead of a replica that has not caught up. The deadline travels in a
+ * cookie rather than server-side state, so it holds whichever instance serves the next request.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "orderflow-primary-until";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration pinDuration;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration pinDuration, Clock clock) {
+        this.pinDuration = pinDuration;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (pinDuration.isZero()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long now = clock.millis();
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            // Set before the handler runs: the response may be committed by the time it returns.
+            Cookie cookie = new Cookie(COOKIE, Long.toString(now + pinDuration.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, pinDuration.toSeconds()));
+            response.addCookie(cookie);
+        } else if (!pinnedUntilAfter(request, now)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    private boolean pinnedUntilAfter(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > now;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
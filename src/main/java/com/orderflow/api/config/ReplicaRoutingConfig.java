@@ -0,0 +1,110 @@
+package com.orderflow.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions to the
+ * replicas in {@code orderflow.replicas.urls}. The primary pool is still built from
+ * {@code spring.datasource}; replica pools reuse its credentials unless
+ * {@code orderflow.replicas.username}/{@code password} are set.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "orderflow.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            DataSourceProperties properties,
+            @Value("${orderflow.replicas.urls}") String[] urls,
+            @Value("${orderflow.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${orderflow.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${orderflow.replicas.pool-size:10}") int poolSize,
+            @Value("${orderflow.replicas.connection-timeout:2s}") Duration connectionTimeout) {
+        List<DataSource> replicas = new ArrayList<>(urls.length);
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            replicas.add(new PermitLimitedDataSource(replica, poolSize, connectionTimeout));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, connectionTimeout);
+    }
+
+    /**
+     * The connection is only fetched from the router at the first statement, after the
+     * transaction manager has marked the transaction read-only. Known defaults keep the proxy
+     * from probing a real connection to learn them.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(@Value("${orderflow.replicas.read-your-writes:0s}") Duration pinDuration) {
+        return new ReadYourWritesFilter(pinDuration, Clock.systemUTC());
+    }
+
+    @Bean
+    MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return registry -> Gauge.builder("orderflow.datasource.replicas.healthy", replicaRoutingDataSource,
+                        ReplicaRoutingDataSource::healthyReplicas)
+                .description("Read replicas currently in rotation")
+                .register(registry);
+    }
+
+    @Bean
+    ReplicaHealthCheck replicaHealthCheck(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaHealthCheck(replicaRoutingDataSource);
+    }
+
+    static class ReplicaHealthCheck {
+
+        private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+        ReplicaHealthCheck(ReplicaRoutingDataSource replicaRoutingDataSource) {
+            this.replicaRoutingDataSource = replicaRoutingDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${orderflow.replicas.health-check-interval:PT5S}")
+        void check() {
+            replicaRoutingDataSource.checkReplicas();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.orderflow.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas in turn and everything else to the primary. A
+ * replica that fails to hand out a connection or a validity check is ejected and the work goes to
+ * the primary; {@link #checkReplicas()} brings it back once it validates again. The decision is
+ * taken when a connection is first needed, so this must sit behind a lazy connection proxy that
+ * defers fetching it until the transaction's read-only flag is set.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Duration validationTimeout;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, Duration validationTimeout) {
+        this.primary = primary;
+        this.validationTimeout = validationTimeout;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (DataSource dataSource : replicaDataSources) {
+            Replica replica = new Replica("replica-" + replicas.size(), dataSource);
+            replicas.add(replica);
+            targets.put(replica.name, replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Sends every transaction on the current thread to the primary until {@link #unpin()}, so
+     * the caller reads its own recent writes even while the replicas lag behind.
+     */
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    public int healthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy.get()).count();
+    }
+
+    /**
+     * Validates a connection from every replica, ejecting the ones that fail and taking back the
+     * ones that recovered.
+     */
+    public void checkReplicas() {
+        int timeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.getTargetDataSource().getConnection()) {
+                if (connection.isValid(timeoutSeconds)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                replica.markDown(ex);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy.get()) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            try {
+                if (replica.getTargetDataSource().isWrapperFor(Closeable.class)) {
+                    replica.getTargetDataSource().unwrap(Closeable.class).close();
+                }
+            } catch (SQLException ex) {
+                throw new IOException("Failed to close " + replica.name, ex);
+            }
+        }
+    }
+
+    private class Replica extends DelegatingDataSource {
+
+        private final String name;
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+        Replica(String name, DataSource target) {
+            super(target);
+            this.name = name;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                return super.getConnection();
+            } catch (SQLException | RuntimeException ex) {
+                markDown(ex);
+                return primary.getConnection();
+            }
+        }
+
+        void markUp() {
+            if (healthy.compareAndSet(false, true)) {
+                log.info("Read replica {} is back in rotation", name);
+            }
+        }
+
+        void markDown(Exception cause) {
+            if (healthy.compareAndSet(true, false)) {
+                log.warn("Ejecting read replica {} from rotation", name, cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.orderflow.api.config;
+
+import com.orderflow.api.service.OrderIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds one pool per database in {@code orderflow.sharding.urls} and migrates each with the
+ * scripts in {@code db/shard}. Customers and every other table stay on {@code spring.datasource};
+ * shard pools reuse its credentials unless {@code orderflow.sharding.username}/{@code password}
+ * are set. The shard list is positional: reordering it moves customers between shards.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "orderflow.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    OrderShards orderShards(
+            DataSourceProperties properties,
+            @Value("${orderflow.sharding.urls}") String[] urls,
+            @Value("${orderflow.sharding.username:${spring.datasource.username:}}") String username,
+            @Value("${orderflow.sharding.password:${spring.datasource.password:}}") String password,
+            @Value("${orderflow.sharding.pool-size:10}") int poolSize,
+            @Value("${orderflow.sharding.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${orderflow.sharding.virtual-nodes:128}") int virtualNodes,
+            @Value("${orderflow.sharding.migrate:true}") boolean migrate) {
+        List<OrderShards.Shard> shards = new ArrayList<>(urls.length);
+        for (String url : urls) {
+            String name = "shard-" + shards.size();
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setConnectionTimeout(connectionTimeout.toMillis());
+            DataSource dataSource = new PermitLimitedDataSource(pool, poolSize, connectionTimeout);
+
+            if (migrate) {
+                Flyway.configure()
+                        .dataSource(dataSource)
+                        .locations("classpath:db/shard")
+                        .load()
+                        .migrate();
+            }
+            shards.add(OrderShards.Shard.of(name, dataSource));
+        }
+        return new OrderShards(shards, virtualNodes);
+    }
+
+    /**
+     * The node id has no default: two instances sharing one would hand out the same ids, which
+     * then land on different shards.
+     */
+    @Bean
+    OrderIdGenerator orderIdGenerator(@Value("${orderflow.sharding.node-id:}") String nodeId) {
+        if (!StringUtils.hasText(nodeId)) {
+            throw new IllegalStateException(
+                    "orderflow.sharding.node-id (ORDER_ID_NODE) must be set to a value unique to this instance");
+        }
+        return new OrderIdGenerator(Integer.parseInt(nodeId.trim()), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,46 @@
+package com.orderflow.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    static BeanPostProcessor permitLimitedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                    return new PermitLimitedDataSource(hikari, poolSize, Duration.ofMillis(hikari.getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder permitLimitedDataSourceMetrics(DataSource dataSource) {
+        return registry -> PermitLimitedDataSource.find(dataSource).ifPresent(permits -> {
+            Gauge.builder("orderflow.datasource.permits.available", permits, PermitLimitedDataSource::availablePermits)
+                    .description("Connection permits not currently held")
+                    .register(registry);
+            Gauge.builder("orderflow.datasource.permits.queued", permits, PermitLimitedDataSource::queuedThreads)
+                    .description("Threads waiting for a connection permit")
+                    .register(registry);
+        });
+    }
+}
@@ -1,40 +1,88 @@
 package com.orderflow.api.controller;
 
+import com.orderflow.api.model.dto.CustomerImportResultDTO;
 import com.orderflow.api.model.dto.CustomerRequestDTO;
 import com.orderflow.api.model.dto.CustomerResponseDTO;
+import com.orderflow.api.model.dto.SliceResponseDTO;
+import com.orderflow.api.service.CountMode;
+import com.orderflow.api.service.CustomerImportService;
 import com.orderflow.api.service.CustomerService;
+import com.orderflow.api.service.EntityTags;
+import com.orderflow.api.service.IdempotencyService;
+import com.orderflow.api.service.IdempotencyService.IdempotentResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/customers")
 @RequiredArgsConstructor
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final CustomerImportService customerImportService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    public ResponseEntity<CustomerResponseDTO> create(@Valid @RequestBody CustomerRequestDTO request) {
-        CustomerResponseDTO response = customerService.create(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<CustomerResponseDTO> create(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CustomerRequestDTO request) {
+        IdempotentResult<CustomerResponseDTO> result = idempotencyService.execute("customers", idempotencyKey, request,
+                CustomerResponseDTO.class, () -> customerService.create(request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IdempotencyService.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.body());
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<CustomerImportResultDTO> importCsv(InputStream body) {
+        CustomerImportResultDTO response = customerImportService.importCustomers(body, CustomerImportService.Format.CSV);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<CustomerImportResultDTO> importNdjson(InputStream body) {
+        CustomerImportResultDTO response = customerImportService.importCustomers(body, CustomerImportService.Format.NDJSON);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponseDTO> findById(@PathVariable Long id) {
+    public ResponseEntity<CustomerResponseDTO> findById(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Compared here rather than through WebRequest.checkNotModified, which would also put
+        // this tag on a 200 response whose body it may not describe.
+        String eTag = customerService.findETag(id);
+        if (ifNoneMatch != null && EntityTags.matchesWeakly(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // The body may come from the cache, so its tag is taken from it rather than reused.
         CustomerResponseDTO response = customerService.findById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.customer(response.getId(), response.getUpdatedAt()))
+                .body(response);
     }
 
     @GetMapping
-    public ResponseEntity<Page<CustomerResponseDTO>> findAll(
+    public ResponseEntity<?> findAll(
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
             @PageableDefault(size = 20, sort = "name") Pageable pageable) {
-        Page<CustomerResponseDTO> response = customerService.findAll(pageable);
+        Object response = switch (ListMode.of(slice, limit, after)) {
+            case PAGE -> customerService.findAll(pageable);
+            case SLICE -> customerService.findAllSlice(pageable, count);
+            case CURSOR -> customerService.findAllAfter(after, limit);
+        };
         return ResponseEntity.ok(response);
     }
 
@@ -46,12 +94,24 @@ public class CustomerController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/search", params = "slice=true")
+    public ResponseEntity<SliceResponseDTO<CustomerResponseDTO>> searchByNameSlice(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @PageableDefault(size = 20, sort = "name") Pageable pageable) {
+        SliceResponseDTO<CustomerResponseDTO> response = customerService.searchByNameSlice(name, pageable, count);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CustomerResponseDTO> update(
             @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CustomerRequestDTO request) {
-        CustomerResponseDTO response = customerService.update(id, request);
-        return ResponseEntity.ok(response);
+        CustomerResponseDTO response = customerService.update(id, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.customer(response.getId(), response.getUpdatedAt()))
+                .body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,38 @@
+package com.orderflow.api.controller;
+
+import com.orderflow.api.exception.BusinessException;
+
+/**
+ * How an order or customer list request is paged, picked from its optional {@code slice},
+ * {@code limit} and {@code after} parameters so each list endpoint has a single handler.
+ * Combinations that ask for two modes at once are rejected rather than resolved by whichever
+ * handler Spring matches first.
+ */
+enum ListMode {
+    PAGE,
+    SLICE,
+    CURSOR;
+
+    static ListMode of(boolean slice, Integer limit, String after) {
+        if (slice && limit != null) {
+            throw new BusinessException("slice=true cannot be combined with limit");
+        }
+        if (after != null && limit == null) {
+            throw new BusinessException("after requires limit");
+        }
+        if (limit != null) {
+            return CURSOR;
+        }
+        return slice ? SLICE : PAGE;
+    }
+
+    static boolean isSummary(String view) {
+        if (view == null || view.equalsIgnoreCase("full")) {
+            return false;
+        }
+        if (view.equalsIgnoreCase("summary")) {
+            return true;
+        }
+        throw new BusinessException("view must be full or summary");
+    }
+}
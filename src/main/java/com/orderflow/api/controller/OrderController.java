@@ -1,65 +1,213 @@
 package com.orderflow.api.controller;
 
+import com.orderflow.api.model.dto.OrderBatchRequestDTO;
+import com.orderflow.api.model.dto.OrderBatchResponseDTO;
+import com.orderflow.api.model.dto.OrderBulkStatusRequestDTO;
+import com.orderflow.api.model.dto.OrderBulkStatusResponseDTO;
 import com.orderflow.api.model.dto.OrderRequestDTO;
 import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.dto.OrderStatsResponseDTO;
 import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.service.CountMode;
+import com.orderflow.api.service.CreatedRange;
+import com.orderflow.api.service.EntityTags;
+import com.orderflow.api.service.IdempotencyService;
+import com.orderflow.api.service.IdempotencyService.IdempotentResult;
+import com.orderflow.api.service.OrderBulkStatusService;
+import com.orderflow.api.service.OrderEventStream;
+import com.orderflow.api.service.OrderExportService;
 import com.orderflow.api.service.OrderService;
+import com.orderflow.api.service.OrderStatsService;
+import com.orderflow.api.service.TaggedOrder;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/orders")
+@ConditionalOnProperty(name = "orderflow.sharding.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderStatsService orderStatsService;
+    private final OrderBulkStatusService orderBulkStatusService;
+    private final IdempotencyService idempotencyService;
+    private final OrderEventStream orderEventStream;
 
     @PostMapping
-    public ResponseEntity<OrderResponseDTO> create(@Valid @RequestBody OrderRequestDTO request) {
-        OrderResponseDTO response = orderService.create(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<OrderResponseDTO> create(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequestDTO request) {
+        IdempotentResult<OrderResponseDTO> result = idempotencyService.execute("orders", idempotencyKey, request,
+                OrderResponseDTO.class, () -> orderService.create(request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IdempotencyService.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.body());
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<OrderResponseDTO> findById(@PathVariable Long id) {
-        OrderResponseDTO response = orderService.findById(id);
+    @PostMapping("/batch")
+    public ResponseEntity<OrderBatchResponseDTO> createBatch(@Valid @RequestBody OrderBatchRequestDTO request) {
+        OrderBatchResponseDTO response = orderService.createBatch(request.getOrders());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") OrderExportService.Format format,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        CreatedRange range = CreatedRange.of(createdFrom, createdTo);
+        boolean csv = format == OrderExportService.Format.CSV;
+        StreamingResponseBody body = output ->
+                orderExportService.export(format, status, customerId, range, output);
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<OrderStatsResponseDTO> stats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        OrderStatsResponseDTO response = orderStatsService.getStats(from, to);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return orderEventStream.subscribe(status, lastEventId);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderResponseDTO> findById(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = orderService.findETag(id);
+        if (ifNoneMatch != null && EntityTags.matchesWeakly(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        TaggedOrder response = orderService.findTaggedById(id);
+        return ResponseEntity.ok().eTag(response.eTag()).body(response.order());
+    }
+
     @GetMapping
-    public ResponseEntity<Page<OrderResponseDTO>> findAll(
+    public ResponseEntity<?> findAll(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String view,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
-        Page<OrderResponseDTO> response = orderService.findAll(pageable);
+        CreatedRange range = CreatedRange.of(createdFrom, createdTo);
+        boolean summary = ListMode.isSummary(view);
+        Object response = switch (ListMode.of(slice, limit, after)) {
+            case PAGE -> summary
+                    ? orderService.findAllSummaries(range, pageable)
+                    : orderService.findAll(range, pageable);
+            case SLICE -> summary
+                    ? orderService.findAllSummariesSlice(range, pageable, count)
+                    : orderService.findAllSlice(range, pageable, count);
+            case CURSOR -> summary
+                    ? orderService.findAllSummariesAfter(range, after, limit)
+                    : orderService.findAllAfter(range, after, limit);
+        };
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<Page<OrderResponseDTO>> findByCustomerId(
+    public ResponseEntity<?> findByCustomerId(
             @PathVariable Long customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String view,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
-        Page<OrderResponseDTO> response = orderService.findByCustomerId(customerId, pageable);
+        CreatedRange range = CreatedRange.of(createdFrom, createdTo);
+        boolean summary = ListMode.isSummary(view);
+        Object response = switch (ListMode.of(slice, limit, after)) {
+            case PAGE -> summary
+                    ? orderService.findSummariesByCustomerId(customerId, range, pageable)
+                    : orderService.findByCustomerId(customerId, range, pageable);
+            case SLICE -> summary
+                    ? orderService.findSummariesByCustomerIdSlice(customerId, range, pageable, count)
+                    : orderService.findByCustomerIdSlice(customerId, range, pageable, count);
+            case CURSOR -> summary
+                    ? orderService.findSummariesByCustomerIdAfter(customerId, range, after, limit)
+                    : orderService.findByCustomerIdAfter(customerId, range, after, limit);
+        };
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<Page<OrderResponseDTO>> findByStatus(
+    public ResponseEntity<?> findByStatus(
             @PathVariable OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String view,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
-        Page<OrderResponseDTO> response = orderService.findByStatus(status, pageable);
+        CreatedRange range = CreatedRange.of(createdFrom, createdTo);
+        boolean summary = ListMode.isSummary(view);
+        Object response = switch (ListMode.of(slice, limit, after)) {
+            case PAGE -> summary
+                    ? orderService.findSummariesByStatus(status, range, pageable)
+                    : orderService.findByStatus(status, range, pageable);
+            case SLICE -> summary
+                    ? orderService.findSummariesByStatusSlice(status, range, pageable, count)
+                    : orderService.findByStatusSlice(status, range, pageable, count);
+            case CURSOR -> summary
+                    ? orderService.findSummariesByStatusAfter(status, range, after, limit)
+                    : orderService.findByStatusAfter(status, range, after, limit);
+        };
         return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<OrderResponseDTO> updateStatus(
             @PathVariable Long id,
-            @RequestParam OrderStatus status) {
-        OrderResponseDTO response = orderService.updateStatus(id, status);
+            @RequestParam OrderStatus status,
+            @RequestHeader(name = "Prefer", required = false) String prefer,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (prefer != null && prefer.contains("return=minimal")) {
+            String eTag = orderService.changeStatusTagged(id, status, ifMatch);
+            return ResponseEntity.noContent().eTag(eTag).build();
+        }
+        TaggedOrder response = orderService.updateStatus(id, status, ifMatch);
+        return ResponseEntity.ok().eTag(response.eTag()).body(response.order());
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<OrderBulkStatusResponseDTO> updateStatusInBulk(
+            @Valid @RequestBody OrderBulkStatusRequestDTO request) {
+        OrderBulkStatusResponseDTO response = orderBulkStatusService.updateStatus(request);
         return ResponseEntity.ok(response);
     }
 
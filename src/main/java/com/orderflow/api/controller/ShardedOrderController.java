@@ -0,0 +1,89 @@
+package com.orderflow.api.controller;
+
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.service.CreatedRange;
+import com.orderflow.api.service.ShardedOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Takes over {@code /api/orders} from {@link OrderController} when orders are sharded. Only the
+ * core CRUD and list endpoints are served; views, cursors, batches, bulk updates, export, stats
+ * and events read the primary database's order tables and are not available in this mode.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@ConditionalOnProperty(name = "orderflow.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ShardedOrderController {
+
+    private final ShardedOrderService shardedOrderService;
+
+    @PostMapping
+    public ResponseEntity<OrderResponseDTO> create(@Valid @RequestBody OrderRequestDTO request) {
+        OrderResponseDTO response = shardedOrderService.create(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderResponseDTO> findById(@PathVariable Long id) {
+        OrderResponseDTO response = shardedOrderService.findById(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<Page<OrderResponseDTO>> findAll(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
+        CreatedRange range = CreatedRange.of(createdFrom, createdTo);
+        Page<OrderResponseDTO> response = shardedOrderService.findAll(range, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/customer/{customerId}")
+    public ResponseEntity<Page<OrderResponseDTO>> findByCustomerId(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
+        CreatedRange range = CreatedRange.of(createdFrom, createdTo);
+        Page<OrderResponseDTO> response = shardedOrderService.findByCustomerId(customerId, range, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/status/{status}")
+    public ResponseEntity<Page<OrderResponseDTO>> findByStatus(
+            @PathVariable OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
+        CreatedRange range = CreatedRange.of(createdFrom, createdTo);
+        Page<OrderResponseDTO> response = shardedOrderService.findByStatus(status, range, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<OrderResponseDTO> updateStatus(@PathVariable Long id, @RequestParam OrderStatus status) {
+        OrderResponseDTO response = shardedOrderService.updateStatus(id, status);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        shardedOrderService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
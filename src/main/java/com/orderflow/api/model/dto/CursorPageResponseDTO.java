@@ -0,0 +1,20 @@
+package com.orderflow.api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponseDTO<T> {
+
+    private List<T> content;
+    private int limit;
+    private boolean hasNext;
+    private String nextCursor;
+}
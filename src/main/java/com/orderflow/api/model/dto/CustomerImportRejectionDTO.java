@@ -0,0 +1,18 @@
+package com.orderflow.api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerImportRejectionDTO {
+
+    private long line;
+    private List<String> errors;
+}
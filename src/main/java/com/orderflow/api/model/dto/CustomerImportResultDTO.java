@@ -0,0 +1,22 @@
+package com.orderflow.api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerImportResultDTO {
+
+    private long totalRows;
+    private long imported;
+    private long skipped;
+    private long rejected;
+    private List<CustomerImportRejectionDTO> rejections;
+    private boolean rejectionsTruncated;
+}
@@ -0,0 +1,23 @@
+package com.orderflow.api.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBatchRequestDTO {
+
+    @NotEmpty(message = "Batch must have at least one order")
+    @Size(max = 5000, message = "Batch must not exceed 5000 orders")
+    @Valid
+    private List<OrderRequestDTO> orders;
+}
@@ -0,0 +1,20 @@
+package com.orderflow.api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBatchResponseDTO {
+
+    private int received;
+    private int created;
+    private int rejected;
+    private List<OrderBatchResultDTO> results;
+}
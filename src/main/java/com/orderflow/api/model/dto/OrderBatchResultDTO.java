@@ -0,0 +1,21 @@
+package com.orderflow.api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBatchResultDTO {
+
+    private int index;
+    private boolean created;
+    private Long orderId;
+    private BigDecimal totalAmount;
+    private String message;
+}
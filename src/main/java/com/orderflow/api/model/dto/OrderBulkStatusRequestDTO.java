@@ -0,0 +1,26 @@
+package com.orderflow.api.model.dto;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBulkStatusRequestDTO {
+
+    @NotNull(message = "Target status is required")
+    private OrderStatus status;
+
+    @Size(max = 100000, message = "Bulk status change must not exceed 100000 ids")
+    private List<@NotNull Long> ids;
+
+    private OrderStatusFilterDTO filter;
+}
@@ -0,0 +1,22 @@
+package com.orderflow.api.model.dto;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBulkStatusResponseDTO {
+
+    private OrderStatus status;
+    private long moved;
+    private long rejected;
+    private List<Long> rejectedIds;
+    private boolean rejectedIdsTruncated;
+}
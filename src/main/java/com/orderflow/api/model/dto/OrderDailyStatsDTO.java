@@ -0,0 +1,22 @@
+package com.orderflow.api.model.dto;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderDailyStatsDTO {
+
+    private LocalDate date;
+    private OrderStatus status;
+    private long orderCount;
+    private BigDecimal totalAmount;
+}
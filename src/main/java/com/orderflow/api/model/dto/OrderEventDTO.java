@@ -0,0 +1,28 @@
+package com.orderflow.api.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.orderflow.api.model.entity.OrderEventType;
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderEventDTO {
+
+    private OrderEventType type;
+    private Long orderId;
+    private Long customerId;
+    private OrderStatus status;
+    private OrderStatus previousStatus;
+    private BigDecimal totalAmount;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,21 @@
+package com.orderflow.api.model.dto;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusFilterDTO {
+
+    private OrderStatus status;
+    private Long customerId;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
@@ -0,0 +1,20 @@
+package com.orderflow.api.model.dto;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusStatsDTO {
+
+    private OrderStatus status;
+    private long orderCount;
+    private BigDecimal totalAmount;
+}
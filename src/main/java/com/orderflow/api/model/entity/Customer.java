@@ -4,11 +4,15 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "customers")
+@Table(name = "customers", uniqueConstraints = {
+        @UniqueConstraint(name = Customer.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = Customer.DOCUMENT_NUMBER_CONSTRAINT, columnNames = "document_number")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,6 +20,9 @@ import java.util.List;
 @Builder
 public class Customer {
 
+    public static final String EMAIL_CONSTRAINT = "uk_customers_email";
+    public static final String DOCUMENT_NUMBER_CONSTRAINT = "uk_customers_document_number";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -23,13 +30,13 @@ public class Customer {
     @Column(nullable = false, length = 100)
     private String name;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Column(nullable = false, length = 20)
     private String phone;
 
-    @Column(nullable = false, length = 14, unique = true)
+    @Column(nullable = false, length = 14)
     private String documentNumber;
 
     @Column(nullable = false)
@@ -44,12 +51,12 @@ public class Customer {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "order_items")
@@ -15,13 +16,21 @@ import java.math.BigDecimal;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
 
+    /**
+     * Copy of the order's {@code createdAt}. On PostgreSQL {@code order_items} is partitioned on it,
+     * so an item always lives in the same month as its order.
+     */
+    @Column(nullable = false)
+    private LocalDateTime orderCreatedAt;
+
     @Column(nullable = false, length = 200)
     private String productName;
 
@@ -46,5 +55,8 @@ public class OrderItem {
     @PreUpdate
     protected void onSave() {
         calculateSubtotal();
+        if (orderCreatedAt == null && order != null) {
+            orderCreatedAt = order.getCreatedAt();
+        }
     }
 }
\ No newline at end of file
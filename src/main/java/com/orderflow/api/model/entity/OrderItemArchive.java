@@ -0,0 +1,42 @@
+package com.orderflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Item of an {@link OrderArchive}, moved together with its order. Rows are moved and read
+ * through JDBC; the entity only defines the table.
+ */
+@Entity
+@Table(name = "order_items_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderItemArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime orderCreatedAt;
+
+    @Column(nullable = false, length = 200)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal subtotal;
+}
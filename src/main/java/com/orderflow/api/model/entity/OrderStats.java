@@ -0,0 +1,51 @@
+package com.orderflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Running order count and total per creation day and status. Each day/status pair is spread over
+ * several slots so concurrent writers rarely contend on the same row; readers sum the slots.
+ */
+@Entity
+@Table(name = "order_stats")
+@IdClass(OrderStats.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStats {
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate statsDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Id
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statsDate;
+        private OrderStatus status;
+        private Integer slot;
+    }
+}
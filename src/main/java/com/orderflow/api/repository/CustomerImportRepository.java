@@ -0,0 +1,110 @@
+package com.orderflow.api.repository;
+
+import com.orderflow.api.config.DatabaseFeatures;
+import com.orderflow.api.model.dto.CustomerRequestDTO;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomerImportRepository {
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMP TABLE IF NOT EXISTS customers_import_staging (
+                name VARCHAR(100),
+                email VARCHAR(100),
+                phone VARCHAR(20),
+                document_number VARCHAR(14)
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_INTO_STAGING =
+            "COPY customers_import_staging (name, email, phone, document_number) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_FROM_STAGING = """
+            INSERT INTO customers (name, email, phone, document_number, created_at, updated_at)
+            SELECT name, email, phone, document_number, ?, ?
+            FROM customers_import_staging
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO customers (name, email, phone, document_number, created_at, updated_at)
+            SELECT ?, ?, ?, ?, ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM customers WHERE email = ? OR document_number = ?)
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseFeatures databaseFeatures;
+
+    @Transactional
+    public int insertIgnoringConflicts(List<CustomerRequestDTO> customers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        return databaseFeatures.isPostgres()
+                ? copyAndMerge(customers, now)
+                : insertIfAbsent(customers, now);
+    }
+
+    private int copyAndMerge(List<CustomerRequestDTO> customers, Timestamp now) {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+        jdbcTemplate.execute("TRUNCATE customers_import_staging");
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_INTO_STAGING, new StringReader(toCsv(customers)));
+        } catch (SQLException | IOException ex) {
+            throw new IllegalStateException("Failed to copy customers into staging table", ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        return jdbcTemplate.update(MERGE_FROM_STAGING, now, now);
+    }
+
+    private int insertIfAbsent(List<CustomerRequestDTO> customers, Timestamp now) {
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, customers, customers.size(), (ps, customer) -> {
+            ps.setString(1, customer.getName());
+            ps.setString(2, customer.getEmail());
+            ps.setString(3, customer.getPhone());
+            ps.setString(4, customer.getDocumentNumber());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            ps.setString(7, customer.getEmail());
+            ps.setString(8, customer.getDocumentNumber());
+        })[0];
+        return Arrays.stream(counts).sum();
+    }
+
+    private String toCsv(List<CustomerRequestDTO> customers) {
+        StringBuilder csv = new StringBuilder(customers.size() * 96);
+        for (CustomerRequestDTO customer : customers) {
+            appendField(csv, customer.getName()).append(',');
+            appendField(csv, customer.getEmail()).append(',');
+            appendField(csv, customer.getPhone()).append(',');
+            appendField(csv, customer.getDocumentNumber()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private StringBuilder appendField(StringBuilder csv, String value) {
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -1,11 +1,18 @@
 package com.orderflow.api.repository;
 
 import com.orderflow.api.model.entity.Customer;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +20,13 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByEmail(String email);
 
+    @Query("select c.updatedAt from Customer c where c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Customer c where c.id = :id")
+    Optional<Customer> findByIdForUpdate(@Param("id") Long id);
+
     Optional<Customer> findByDocumentNumber(String documentNumber);
 
     boolean existsByEmail(String email);
@@ -20,4 +34,38 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     boolean existsByDocumentNumber(String documentNumber);
 
     Page<Customer> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    Slice<Customer> findSliceBy(Pageable pageable);
+
+    long countByNameContainingIgnoreCase(String name);
+
+    @Query(value = "SELECT * FROM customers WHERE lower(name) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\' "
+            + "ORDER BY similarity(lower(name), lower(:name)) DESC, name, id",
+            countQuery = "SELECT count(*) FROM customers WHERE lower(name) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\'",
+            nativeQuery = true)
+    Page<Customer> searchByNameRanked(@Param("pattern") String pattern,
+                                      @Param("name") String name,
+                                      Pageable pageable);
+
+    @Query(value = "SELECT * FROM customers WHERE lower(name) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\' "
+            + "ORDER BY similarity(lower(name), lower(:name)) DESC, name, id",
+            nativeQuery = true)
+    Slice<Customer> searchSliceByNameRanked(@Param("pattern") String pattern,
+                                            @Param("name") String name,
+                                            Pageable pageable);
+
+    @Query("select c from Customer c where lower(c.name) like lower(concat('%', :pattern, '%')) escape '\\' "
+            + "order by locate(lower(:name), lower(c.name)), length(c.name), c.name, c.id")
+    Page<Customer> searchByNameRankedFallback(@Param("pattern") String pattern,
+                                              @Param("name") String name,
+                                              Pageable pageable);
+
+    @Query("select c from Customer c where lower(c.name) like lower(concat('%', :pattern, '%')) escape '\\' "
+            + "order by locate(lower(:name), lower(c.name)), length(c.name), c.name, c.id")
+    Slice<Customer> searchSliceByNameRankedFallback(@Param("pattern") String pattern,
+                                                    @Param("name") String name,
+                                                    Pageable pageable);
+
+    @Query("select c from Customer c where (c.name, c.id) > (:name, :id) order by c.name, c.id")
+    List<Customer> findAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.orderflow.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+
+    private static final String FIND_VALID = """
+            SELECT request_hash, response_body FROM idempotency_keys
+            WHERE scope = ? AND idempotency_key = ? AND expires_at > ?
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, response_body, created_at, expires_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String DELETE_EXPIRED_KEY =
+            "DELETE FROM idempotency_keys WHERE scope = ? AND idempotency_key = ? AND expires_at <= ?";
+
+    private static final String DELETE_ALL_EXPIRED = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<StoredResponse> findValid(String scope, String key, LocalDateTime now) {
+        List<StoredResponse> rows = jdbcTemplate.query(FIND_VALID,
+                (rs, rowNum) -> new StoredResponse(rs.getString("request_hash"), rs.getString("response_body")),
+                scope, key, Timestamp.valueOf(now));
+        return rows.stream().findFirst();
+    }
+
+    public void insert(String scope, String key, String requestHash, String responseBody,
+                       LocalDateTime createdAt, LocalDateTime expiresAt) {
+        jdbcTemplate.update(INSERT, scope, key, requestHash, responseBody,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(expiresAt));
+    }
+
+    public void deleteExpired(String scope, String key, LocalDateTime now) {
+        jdbcTemplate.update(DELETE_EXPIRED_KEY, scope, key, Timestamp.valueOf(now));
+    }
+
+    public int deleteAllExpired(LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_ALL_EXPIRED, Timestamp.valueOf(now));
+    }
+
+    public record StoredResponse(String requestHash, String responseBody) {
+    }
+}
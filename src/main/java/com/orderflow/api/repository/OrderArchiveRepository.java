@@ -0,0 +1,194 @@
+package com.orderflow.api.repository;
+
+import com.orderflow.api.config.DatabaseFeatures;
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves completed orders between the hot tables and {@code orders_archive}/{@code order_items_archive}
+ * and reads them back. On PostgreSQL each table is moved by one {@code DELETE ... RETURNING}
+ * feeding an {@code INSERT}, so rows are read once; other databases copy and then delete inside
+ * the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveRepository {
+
+    private static final String ORDER_COLUMNS = "id, customer_id, total_amount, status, created_at, updated_at, version";
+    private static final String ITEM_COLUMNS = "id, order_id, order_created_at, product_name, quantity, unit_price, subtotal";
+
+    // created_at < :cutoff is implied by updated_at < :cutoff; it is repeated so PostgreSQL only
+    // visits the monthly partitions old enough to hold candidates.
+    private static final String CLAIM = """
+            SELECT id FROM orders
+            WHERE status = :status AND created_at < :cutoff AND updated_at < :cutoff
+            ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String ITEMS_WHERE = " FROM order_items WHERE order_id IN (:ids) AND order_created_at < :cutoff";
+    private static final String ORDERS_WHERE = " FROM orders WHERE id IN (:ids) AND created_at < :cutoff";
+
+    private static final String MOVE_ITEMS = "WITH moved AS (DELETE" + ITEMS_WHERE + " RETURNING " + ITEM_COLUMNS + ") "
+            + "INSERT INTO order_items_archive (" + ITEM_COLUMNS + ") SELECT " + ITEM_COLUMNS + " FROM moved";
+
+    private static final String MOVE_ORDERS = "WITH moved AS (DELETE" + ORDERS_WHERE + " RETURNING " + ORDER_COLUMNS + ") "
+            + "INSERT INTO orders_archive (" + ORDER_COLUMNS + ", archived_at) "
+            + "SELECT " + ORDER_COLUMNS + ", :archivedAt FROM moved";
+
+    private static final String COPY_ITEMS = "INSERT INTO order_items_archive (" + ITEM_COLUMNS + ") "
+            + "SELECT " + ITEM_COLUMNS + ITEMS_WHERE;
+
+    private static final String COPY_ORDERS = "INSERT INTO orders_archive (" + ORDER_COLUMNS + ", archived_at) "
+            + "SELECT " + ORDER_COLUMNS + ", :archivedAt" + ORDERS_WHERE;
+
+    private static final String FIND_ORDER = """
+            SELECT o.id, o.customer_id, c.name AS customer_name, o.total_amount, o.status, o.created_at, o.updated_at,
+                   o.version, c.updated_at AS customer_updated_at
+            FROM orders_archive o JOIN customers c ON c.id = o.customer_id
+            WHERE o.id = :id
+            """;
+
+    private static final String FIND_ITEMS = """
+            SELECT id, product_name, quantity, unit_price, subtotal FROM order_items_archive
+            WHERE order_id = :orderId ORDER BY id
+            """;
+
+    private static final String FIND_VERSION_STAMP = """
+            SELECT o.id, o.version, c.updated_at FROM orders_archive o JOIN customers c ON c.id = o.customer_id
+            WHERE o.id = :id
+            """;
+
+    private static final String FIND_STATUS_SNAPSHOT =
+            "SELECT id, status, created_at, total_amount FROM orders_archive WHERE id = :id";
+
+    private static final String DELETE_ITEMS = "DELETE FROM order_items_archive WHERE order_id IN (:ids)";
+
+    private static final String DELETE_ORDERS = "DELETE FROM orders_archive WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseFeatures databaseFeatures;
+
+    /**
+     * Locks up to {@code limit} orders in {@code status} whose last change is older than
+     * {@code cutoff}, skipping rows other transactions hold, oldest first.
+     */
+    public List<Long> claim(OrderStatus status, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(CLAIM, new MapSqlParameterSource()
+                .addValue("status", status.name())
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * Moves the given orders and their items into the archive. Items go first: on PostgreSQL
+     * deleting an order cascades to its items, which would otherwise be lost. Returns the number
+     * of orders moved.
+     */
+    public int move(Collection<Long> ids, LocalDateTime cutoff, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+
+        if (databaseFeatures.isPostgres()) {
+            jdbcTemplate.update(MOVE_ITEMS, params);
+            return jdbcTemplate.update(MOVE_ORDERS, params);
+        }
+
+        jdbcTemplate.update(COPY_ITEMS, params);
+        jdbcTemplate.update("DELETE" + ITEMS_WHERE, params);
+        int moved = jdbcTemplate.update(COPY_ORDERS, params);
+        jdbcTemplate.update("DELETE" + ORDERS_WHERE, params);
+        return moved;
+    }
+
+    public Optional<ArchivedOrder> findById(Long id) {
+        List<ArchivedItem> items = findItems(id);
+        List<ArchivedOrder> rows = jdbcTemplate.query(FIND_ORDER, new MapSqlParameterSource("id", id),
+                (rs, rowNum) -> new ArchivedOrder(
+                        rs.getLong("id"),
+                        rs.getLong("customer_id"),
+                        rs.getString("customer_name"),
+                        rs.getBigDecimal("total_amount"),
+                        OrderStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getTimestamp("updated_at").toLocalDateTime(),
+                        rs.getLong("version"),
+                        rs.getTimestamp("customer_updated_at").toLocalDateTime(),
+                        items));
+        return rows.stream().findFirst();
+    }
+
+    public Optional<OrderVersionStamp> findVersionStampById(Long id) {
+        List<OrderVersionStamp> rows = jdbcTemplate.query(FIND_VERSION_STAMP, new MapSqlParameterSource("id", id),
+                (rs, rowNum) -> new OrderVersionStamp(
+                        rs.getLong("id"),
+                        rs.getLong("version"),
+                        rs.getTimestamp("updated_at").toLocalDateTime()));
+        return rows.stream().findFirst();
+    }
+
+    public Optional<OrderStatusSnapshot> findStatusSnapshotById(Long id) {
+        List<OrderStatusSnapshot> rows = jdbcTemplate.query(FIND_STATUS_SNAPSHOT, new MapSqlParameterSource("id", id),
+                (rs, rowNum) -> new OrderStatusSnapshot(
+                        rs.getLong("id"),
+                        OrderStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getBigDecimal("total_amount")));
+        return rows.stream().findFirst();
+    }
+
+    public boolean existsById(Long id) {
+        return !jdbcTemplate.queryForList("SELECT id FROM orders_archive WHERE id = :id",
+                new MapSqlParameterSource("id", id), Long.class).isEmpty();
+    }
+
+    public List<Long> findIdsByCustomerId(Long customerId) {
+        return jdbcTemplate.queryForList("SELECT id FROM orders_archive WHERE customer_id = :customerId",
+                new MapSqlParameterSource("customerId", customerId), Long.class);
+    }
+
+    public int deleteById(Long id) {
+        return deleteAll(List.of(id));
+    }
+
+    public int deleteByCustomerId(Long customerId) {
+        List<Long> ids = findIdsByCustomerId(customerId);
+        return ids.isEmpty() ? 0 : deleteAll(ids);
+    }
+
+    private int deleteAll(Collection<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update(DELETE_ITEMS, params);
+        return jdbcTemplate.update(DELETE_ORDERS, params);
+    }
+
+    private List<ArchivedItem> findItems(Long orderId) {
+        return jdbcTemplate.query(FIND_ITEMS, new MapSqlParameterSource("orderId", orderId),
+                (rs, rowNum) -> new ArchivedItem(
+                        rs.getLong("id"),
+                        rs.getString("product_name"),
+                        rs.getInt("quantity"),
+                        rs.getBigDecimal("unit_price"),
+                        rs.getBigDecimal("subtotal")));
+    }
+
+    public record ArchivedOrder(Long id, Long customerId, String customerName, BigDecimal totalAmount,
+                                OrderStatus status, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                Long version, LocalDateTime customerUpdatedAt, List<ArchivedItem> items) {
+    }
+
+    public record ArchivedItem(Long id, String productName, Integer quantity, BigDecimal unitPrice,
+                               BigDecimal subtotal) {
+    }
+}
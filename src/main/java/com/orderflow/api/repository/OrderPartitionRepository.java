@@ -0,0 +1,25 @@
+package com.orderflow.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Monthly partitions of {@code orders} and {@code order_items} on PostgreSQL, created through the
+ * {@code create_order_partitions} function from the partitioning migration.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int createMonthlyPartitions(LocalDate firstMonth, LocalDate lastMonth) {
+        Integer created = jdbcTemplate.queryForObject("SELECT create_order_partitions(?, ?)", Integer.class,
+                Date.valueOf(firstMonth), Date.valueOf(lastMonth));
+        return created != null ? created : 0;
+    }
+}
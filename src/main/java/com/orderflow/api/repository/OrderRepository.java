@@ -1,14 +1,239 @@
 package com.orderflow.api.repository;
 
+import com.orderflow.api.model.dto.OrderSummaryDTO;
 import com.orderflow.api.model.entity.Order;
 import com.orderflow.api.model.entity.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    Page<Order> findByCustomerId(Long customerId, Pageable pageable);
+    @Query("select o.id from Order o where o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    Page<Long> findIds(@Param("createdFrom") LocalDateTime createdFrom,
+                       @Param("createdTo") LocalDateTime createdTo,
+                       Pageable pageable);
+
+    @Query("select o.id from Order o where o.customer.id = :customerId "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    Page<Long> findIdsByCustomerId(@Param("customerId") Long customerId,
+                                   @Param("createdFrom") LocalDateTime createdFrom,
+                                   @Param("createdTo") LocalDateTime createdTo,
+                                   Pageable pageable);
+
+    @Query("select o.id from Order o where o.status = :status "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    Page<Long> findIdsByStatus(@Param("status") OrderStatus status,
+                               @Param("createdFrom") LocalDateTime createdFrom,
+                               @Param("createdTo") LocalDateTime createdTo,
+                               Pageable pageable);
+
+    @Query("select o.id from Order o where o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    Slice<Long> findIdSlice(@Param("createdFrom") LocalDateTime createdFrom,
+                            @Param("createdTo") LocalDateTime createdTo,
+                            Pageable pageable);
+
+    @Query("select o.id from Order o where o.customer.id = :customerId "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    Slice<Long> findIdSliceByCustomerId(@Param("customerId") Long customerId,
+                                        @Param("createdFrom") LocalDateTime createdFrom,
+                                        @Param("createdTo") LocalDateTime createdTo,
+                                        Pageable pageable);
+
+    @Query("select o.id from Order o where o.status = :status "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    Slice<Long> findIdSliceByStatus(@Param("status") OrderStatus status,
+                                    @Param("createdFrom") LocalDateTime createdFrom,
+                                    @Param("createdTo") LocalDateTime createdTo,
+                                    Pageable pageable);
+
+    long countByCustomerId(Long customerId);
+
+    long countByStatus(OrderStatus status);
+
+    @Query("select count(o) from Order o where o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    long countCreatedBetween(@Param("createdFrom") LocalDateTime createdFrom,
+                             @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("select count(o) from Order o where o.customer.id = :customerId "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    long countByCustomerIdCreatedBetween(@Param("customerId") Long customerId,
+                                         @Param("createdFrom") LocalDateTime createdFrom,
+                                         @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("select count(o) from Order o where o.status = :status "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+    long countByStatusCreatedBetween(@Param("status") OrderStatus status,
+                                     @Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("select o.id from Order o where o.createdAt >= :createdFrom and o.createdAt < :createdTo "
+            + "and (o.createdAt, o.id) > (:createdAt, :id) order by o.createdAt, o.id")
+    List<Long> findIdsAfter(@Param("createdFrom") LocalDateTime createdFrom,
+                            @Param("createdTo") LocalDateTime createdTo,
+                            @Param("createdAt") LocalDateTime createdAt,
+                            @Param("id") Long id,
+                            Pageable pageable);
+
+    @Query("select o.id from Order o where o.customer.id = :customerId "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo "
+            + "and (o.createdAt, o.id) > (:createdAt, :id) order by o.createdAt, o.id")
+    List<Long> findIdsByCustomerIdAfter(@Param("customerId") Long customerId,
+                                        @Param("createdFrom") LocalDateTime createdFrom,
+                                        @Param("createdTo") LocalDateTime createdTo,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query("select o.id from Order o where o.status = :status "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo "
+            + "and (o.createdAt, o.id) > (:createdAt, :id) order by o.createdAt, o.id")
+    List<Long> findIdsByStatusAfter(@Param("status") OrderStatus status,
+                                    @Param("createdFrom") LocalDateTime createdFrom,
+                                    @Param("createdTo") LocalDateTime createdTo,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o.id from Order o where (:status is null or o.status = :status) "
+            + "and (:customerId is null or o.customer.id = :customerId) "
+            + "and o.createdAt >= :createdFrom and o.createdAt < :createdTo order by o.id")
+    Stream<Long> streamIdsForExport(@Param("status") OrderStatus status,
+                                    @Param("customerId") Long customerId,
+                                    @Param("createdFrom") LocalDateTime createdFrom,
+                                    @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("select new com.orderflow.api.repository.OrderStatusSnapshot(o.id, o.status, o.createdAt, o.totalAmount) "
+            + "from Order o where o.id = :id")
+    Optional<OrderStatusSnapshot> findStatusSnapshotById(@Param("id") Long id);
+
+    @Query("select new com.orderflow.api.repository.OrderStatusSnapshot(o.id, o.status, o.createdAt, o.totalAmount) "
+            + "from Order o where o.customer.id = :customerId")
+    List<OrderStatusSnapshot> findStatusSnapshotsByCustomerId(@Param("customerId") Long customerId);
+
+    @Query("select min(o.createdAt) from Order o where o.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAtByStatus(@Param("status") OrderStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :newStatus, o.updatedAt = :updatedAt, o.version = o.version + 1 "
+            + "where o.id = :id and o.status = :currentStatus")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("currentStatus") OrderStatus currentStatus,
+                              @Param("newStatus") OrderStatus newStatus,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select new com.orderflow.api.repository.OrderVersionStamp(o.id, o.version, c.updatedAt) "
+            + "from Order o join o.customer c where o.id = :id")
+    Optional<OrderVersionStamp> findVersionStampById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :newStatus, o.updatedAt = :updatedAt, o.version = o.version + 1 "
+            + "where o.id = :id and o.status = :currentStatus and o.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id,
+                              @Param("currentStatus") OrderStatus currentStatus,
+                              @Param("version") Long version,
+                              @Param("newStatus") OrderStatus newStatus,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select distinct o from Order o join fetch o.customer left join fetch o.items where o.id in :ids")
+    List<Order> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.orderflow.api.model.dto.OrderSummaryDTO("
+            + "o.id, c.id, c.name, o.totalAmount, o.status, o.createdAt, o.updatedAt) "
+            + "from Order o join o.customer c where o.id in :ids")
+    List<OrderSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    default Page<Order> findAllWithDetails(LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable) {
+        return withDetails(findIds(createdFrom, createdTo, pageable));
+    }
+
+    default Page<Order> findWithDetailsByCustomerId(Long customerId, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                    Pageable pageable) {
+        return withDetails(findIdsByCustomerId(customerId, createdFrom, createdTo, pageable));
+    }
+
+    default Page<Order> findWithDetailsByStatus(OrderStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                Pageable pageable) {
+        return withDetails(findIdsByStatus(status, createdFrom, createdTo, pageable));
+    }
+
+    default Slice<Order> findSliceWithDetails(LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable) {
+        return withDetails(findIdSlice(createdFrom, createdTo, pageable));
+    }
+
+    default Slice<Order> findSliceWithDetailsByCustomerId(Long customerId, LocalDateTime createdFrom,
+                                                          LocalDateTime createdTo, Pageable pageable) {
+        return withDetails(findIdSliceByCustomerId(customerId, createdFrom, createdTo, pageable));
+    }
+
+    default Slice<Order> findSliceWithDetailsByStatus(OrderStatus status, LocalDateTime createdFrom,
+                                                      LocalDateTime createdTo, Pageable pageable) {
+        return withDetails(findIdSliceByStatus(status, createdFrom, createdTo, pageable));
+    }
+
+    default Slice<Order> withDetails(Slice<Long> ids) {
+        return new SliceImpl<>(findWithDetailsInIdOrder(ids.getContent()), ids.getPageable(), ids.hasNext());
+    }
+
+    default Page<Order> withDetails(Page<Long> ids) {
+        return new PageImpl<>(findWithDetailsInIdOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    default Slice<OrderSummaryDTO> withSummaries(Slice<Long> ids) {
+        return new SliceImpl<>(findSummariesInIdOrder(ids.getContent()), ids.getPageable(), ids.hasNext());
+    }
+
+    default Page<OrderSummaryDTO> withSummaries(Page<Long> ids) {
+        return new PageImpl<>(findSummariesInIdOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    default Optional<Order> findWithDetailsById(Long id) {
+        return findWithDetailsByIdIn(List.of(id)).stream().findFirst();
+    }
+
+    default List<Order> findWithDetailsInIdOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inIdOrder(ids, findWithDetailsByIdIn(ids), Order::getId);
+    }
+
+    default List<OrderSummaryDTO> findSummariesInIdOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inIdOrder(ids, findSummariesByIdIn(ids), OrderSummaryDTO::getId);
+    }
 
-    Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+    private static <T> List<T> inIdOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowsById = rows.stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
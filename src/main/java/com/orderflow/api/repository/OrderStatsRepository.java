@@ -0,0 +1,155 @@
+package com.orderflow.api.repository;
+
+import com.orderflow.api.config.DatabaseFeatures;
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderStatsRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO order_stats (stats_date, status, slot, order_count, total_amount)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (stats_date, status, slot) DO UPDATE
+            SET order_count = order_stats.order_count + EXCLUDED.order_count,
+                total_amount = order_stats.total_amount + EXCLUDED.total_amount
+            """;
+
+    private static final String UPDATE = """
+            UPDATE order_stats SET order_count = order_count + ?, total_amount = total_amount + ?
+            WHERE stats_date = ? AND status = ? AND slot = ?
+            """;
+
+    private static final String INSERT =
+            "INSERT INTO order_stats (stats_date, status, slot, order_count, total_amount) VALUES (?, ?, ?, ?, ?)";
+
+    // Archived orders still count; archiving moves rows between tables without touching the stats.
+    private static final String SUMMARIZE_ORDER = """
+            SELECT CAST(created_at AS DATE) AS stats_date, status, COUNT(*) AS order_count, SUM(total_amount) AS total_amount
+            FROM (SELECT created_at, status, total_amount FROM orders WHERE id = ?
+                  UNION ALL
+                  SELECT created_at, status, total_amount FROM orders_archive WHERE id = ?) o
+            GROUP BY CAST(created_at AS DATE), status
+            """;
+
+    private static final String SUMMARIZE_CUSTOMER = """
+            SELECT CAST(created_at AS DATE) AS stats_date, status, COUNT(*) AS order_count, SUM(total_amount) AS total_amount
+            FROM (SELECT created_at, status, total_amount FROM orders WHERE customer_id = ?
+                  UNION ALL
+                  SELECT created_at, status, total_amount FROM orders_archive WHERE customer_id = ?) o
+            GROUP BY CAST(created_at AS DATE), status
+            """;
+
+    private static final String TOTALS_BY_STATUS = """
+            SELECT status, SUM(order_count) AS order_count, SUM(total_amount) AS total_amount
+            FROM order_stats
+            GROUP BY status
+            """;
+
+    private static final String DAILY_TOTALS = """
+            SELECT stats_date, status, SUM(order_count) AS order_count, SUM(total_amount) AS total_amount
+            FROM order_stats
+            WHERE stats_date >= ? AND stats_date <= ?
+            GROUP BY stats_date, status
+            ORDER BY stats_date, status
+            """;
+
+    private static final String REBUILD = """
+            INSERT INTO order_stats (stats_date, status, slot, order_count, total_amount)
+            SELECT CAST(created_at AS DATE), status, 0, COUNT(*), SUM(total_amount)
+            FROM (SELECT created_at, status, total_amount FROM orders
+                  UNION ALL
+                  SELECT created_at, status, total_amount FROM orders_archive) o
+            GROUP BY CAST(created_at AS DATE), status
+            """;
+
+    private static final RowMapper<Delta> DELTA_MAPPER = (rs, rowNum) -> new Delta(
+            rs.getDate("stats_date").toLocalDate(),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getLong("order_count"),
+            rs.getBigDecimal("total_amount"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseFeatures databaseFeatures;
+
+    /**
+     * Adds the deltas to the given slot. Rows are touched in (day, status) order so two
+     * transactions updating overlapping rows always lock them in the same order.
+     */
+    public void apply(int slot, List<Delta> deltas) {
+        deltas.stream()
+                .sorted(Comparator.comparing(Delta::day).thenComparing(Delta::status))
+                .forEach(delta -> apply(slot, delta));
+    }
+
+    public List<Delta> summarizeOrder(Long orderId) {
+        return jdbcTemplate.query(SUMMARIZE_ORDER, DELTA_MAPPER, orderId, orderId);
+    }
+
+    public List<Delta> summarizeCustomerOrders(Long customerId) {
+        return jdbcTemplate.query(SUMMARIZE_CUSTOMER, DELTA_MAPPER, customerId, customerId);
+    }
+
+    public List<StatusTotal> findTotalsByStatus() {
+        return jdbcTemplate.query(TOTALS_BY_STATUS, (rs, rowNum) -> new StatusTotal(
+                OrderStatus.valueOf(rs.getString("status")),
+                rs.getLong("order_count"),
+                rs.getBigDecimal("total_amount")));
+    }
+
+    public List<Delta> findDailyTotals(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(DAILY_TOTALS, DELTA_MAPPER, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * Recomputes every row from the orders and archived orders tables. On PostgreSQL the table lock makes concurrent
+     * writers wait until the rebuilt rows are committed, so no increment is lost or counted twice.
+     */
+    public int rebuild() {
+        if (databaseFeatures.isPostgres()) {
+            jdbcTemplate.execute("LOCK TABLE order_stats IN EXCLUSIVE MODE");
+        }
+        jdbcTemplate.update("DELETE FROM order_stats");
+        return jdbcTemplate.update(REBUILD);
+    }
+
+    private void apply(int slot, Delta delta) {
+        Date day = Date.valueOf(delta.day());
+        String status = delta.status().name();
+
+        if (databaseFeatures.isPostgres()) {
+            jdbcTemplate.update(UPSERT, day, status, slot, delta.count(), delta.amount());
+            return;
+        }
+
+        if (jdbcTemplate.update(UPDATE, delta.count(), delta.amount(), day, status, slot) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT, day, status, slot, delta.count(), delta.amount());
+        } catch (DuplicateKeyException ex) {
+            jdbcTemplate.update(UPDATE, delta.count(), delta.amount(), day, status, slot);
+        }
+    }
+
+    public record Delta(LocalDate day, OrderStatus status, long count, BigDecimal amount) {
+
+        public Delta negate() {
+            return new Delta(day, status, -count, amount.negate());
+        }
+    }
+
+    public record StatusTotal(OrderStatus status, long count, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.orderflow.api.repository;
+
+import com.orderflow.api.model.dto.OrderStatusFilterDTO;
+import com.orderflow.api.model.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based status changes. Candidate rows are locked with {@code SELECT ... FOR UPDATE} before
+ * the UPDATE, so the statuses read here are exactly the ones being replaced. Workers claim with
+ * {@code SKIP LOCKED} instead, so concurrent claims get disjoint rows rather than waiting.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusBulkRepository {
+
+    private static final String SELECT_CANDIDATES =
+            "SELECT id, status, created_at, total_amount FROM orders WHERE status IN (:fromStatuses)";
+
+    private static final String UPDATE_STATUS = """
+            UPDATE orders SET status = :status, updated_at = :updatedAt, version = version + 1
+            WHERE id IN (:ids)
+            """;
+
+    private static final RowMapper<OrderStatusSnapshot> SNAPSHOT_MAPPER = (rs, rowNum) -> new OrderStatusSnapshot(
+            rs.getLong("id"),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getBigDecimal("total_amount"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<OrderStatusSnapshot> lockByIds(Collection<Long> ids, Collection<OrderStatus> fromStatuses) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("fromStatuses", names(fromStatuses));
+        // Locking in id order keeps two calls with overlapping ids from deadlocking on each other.
+        return jdbcTemplate.query(SELECT_CANDIDATES + " AND id IN (:ids) ORDER BY id FOR UPDATE", params, SNAPSHOT_MAPPER);
+    }
+
+    public List<OrderStatusSnapshot> lockNextMatching(OrderStatusFilterDTO filter, Collection<OrderStatus> fromStatuses,
+                                                      long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_CANDIDATES).append(" AND id > :afterId");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromStatuses", names(fromStatuses))
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+
+        if (filter.getCustomerId() != null) {
+            sql.append(" AND customer_id = :customerId");
+            params.addValue("customerId", filter.getCustomerId());
+        }
+        if (filter.getCreatedFrom() != null) {
+            sql.append(" AND created_at >= :createdFrom");
+            params.addValue("createdFrom", Timestamp.valueOf(filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            sql.append(" AND created_at < :createdTo");
+            params.addValue("createdTo", Timestamp.valueOf(filter.getCreatedTo()));
+        }
+
+        sql.append(" ORDER BY id LIMIT :limit FOR UPDATE");
+        return jdbcTemplate.query(sql.toString(), params, SNAPSHOT_MAPPER);
+    }
+
+    public List<OrderStatusSnapshot> claimByStatus(OrderStatus status, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromStatuses", List.of(status.name()))
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_CANDIDATES + " ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+                params, SNAPSHOT_MAPPER);
+    }
+
+    public int updateStatus(Collection<Long> ids, OrderStatus status, LocalDateTime updatedAt) {
+        return jdbcTemplate.update(UPDATE_STATUS, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("status", status.name())
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt)));
+    }
+
+    private List<String> names(Collection<OrderStatus> statuses) {
+        return statuses.stream().map(OrderStatus::name).toList();
+    }
+}
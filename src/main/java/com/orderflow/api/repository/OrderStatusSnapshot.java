@@ -0,0 +1,9 @@
+package com.orderflow.api.repository;
+
+import com.orderflow.api.model.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderStatusSnapshot(Long id, OrderStatus status, LocalDateTime createdAt, BigDecimal totalAmount) {
+}
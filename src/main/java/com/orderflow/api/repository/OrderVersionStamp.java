@@ -0,0 +1,6 @@
+package com.orderflow.api.repository;
+
+import java.time.LocalDateTime;
+
+public record OrderVersionStamp(Long id, Long version, LocalDateTime customerUpdatedAt) {
+}
@@ -0,0 +1,7 @@
+package com.orderflow.api.repository;
+
+import java.time.LocalDateTime;
+
+public record OutboxMessage(Long id, String aggregateType, Long aggregateId, String eventType, String payload,
+                            LocalDateTime createdAt) {
+}
@@ -0,0 +1,70 @@
+package com.orderflow.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox rows are claimed with {@code FOR UPDATE SKIP LOCKED}, so concurrent relays, in this
+ * process or in other instances, each get a disjoint batch instead of waiting on each other.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT = """
+            INSERT INTO outbox (aggregate_type, aggregate_id, event_type, payload, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String CLAIM = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at FROM outbox
+            ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE = "DELETE FROM outbox WHERE id IN (:ids)";
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.aggregateType());
+            ps.setLong(2, message.aggregateId());
+            ps.setString(3, message.eventType());
+            ps.setString(4, message.payload());
+            ps.setTimestamp(5, Timestamp.valueOf(message.createdAt()));
+        });
+    }
+
+    public List<OutboxMessage> claimBatch(int limit) {
+        return jdbcTemplate.query(CLAIM, MESSAGE_MAPPER, limit);
+    }
+
+    public int deleteByIds(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.update(DELETE, new MapSqlParameterSource("ids", ids));
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.orderflow.api.repository;
+
+import com.orderflow.api.config.DatabaseFeatures;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Repository
+@RequiredArgsConstructor
+public class RowCountEstimator {
+
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
+    /**
+     * Autovacuum never analyzes a partitioned parent, so its own {@code reltuples} stays at
+     * whatever the last manual ANALYZE left (0 before PostgreSQL 14). For those the estimate is
+     * the sum over the partitions, skipping any not analyzed yet ({@code reltuples < 0}).
+     */
+    private static final String RELTUPLES_QUERY = """
+            SELECT CASE WHEN t.relkind = 'p' THEN (
+                       SELECT CAST(SUM(p.reltuples) AS BIGINT)
+                       FROM pg_inherits i JOIN pg_class p ON p.oid = i.inhrelid
+                       WHERE i.inhparent = t.oid AND p.reltuples >= 0)
+                   ELSE CAST(t.reltuples AS BIGINT) END
+            FROM pg_class t WHERE t.oid = to_regclass(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseFeatures databaseFeatures;
+    private final Map<String, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    @Value("${orderflow.pagination.count-cache-ttl:30s}")
+    private Duration cacheTtl;
+
+    public long estimateTableRows(String table, LongSupplier exactCount) {
+        if (databaseFeatures.isPostgres()) {
+            Long estimate = jdbcTemplate.queryForObject(RELTUPLES_QUERY, Long.class, table);
+            if (estimate != null && estimate >= 0) {
+                return estimate;
+            }
+        }
+        return cachedCount(table, exactCount);
+    }
+
+    public long cachedCount(String key, LongSupplier exactCount) {
+        long now = System.nanoTime();
+        CachedCount cached = cachedCounts.get(key);
+        if (cached != null && now - cached.loadedAt() < cacheTtl.toNanos()) {
+            return cached.count();
+        }
+
+        long count = exactCount.getAsLong();
+        if (cachedCounts.size() >= MAX_CACHED_COUNTS) {
+            cachedCounts.clear();
+        }
+        cachedCounts.put(key, new CachedCount(count, now));
+        return count;
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+    }
+}
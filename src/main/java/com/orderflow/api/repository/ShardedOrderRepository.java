@@ -0,0 +1,174 @@
+package com.orderflow.api.repository;
+
+import com.orderflow.api.config.OrderShards.Shard;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderItem;
+import com.orderflow.api.model.entity.OrderStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes orders on one shard in sharded mode. Rows come back as detached {@link Order}
+ * and {@link OrderItem} objects whose customer carries only its id, since customers live on the
+ * primary database. Transactions are the caller's, through the shard's own transaction template.
+ */
+@Repository
+@ConditionalOnProperty(name = "orderflow.sharding.enabled", havingValue = "true")
+public class ShardedOrderRepository {
+
+    private static final String ORDER_COLUMNS = "id, customer_id, total_amount, status, created_at, updated_at, version";
+
+    private static final String INSERT_ORDER = "INSERT INTO orders (" + ORDER_COLUMNS + ") "
+            + "VALUES (:id, :customerId, :totalAmount, :status, :createdAt, :updatedAt, 0)";
+
+    private static final String INSERT_ITEM = """
+            INSERT INTO order_items (id, order_id, product_name, quantity, unit_price, subtotal)
+            VALUES (:id, :orderId, :productName, :quantity, :unitPrice, :subtotal)
+            """;
+
+    private static final String FIND_ORDER = "SELECT " + ORDER_COLUMNS + " FROM orders WHERE id = :id";
+
+    private static final String FIND_ITEMS = """
+            SELECT id, order_id, product_name, quantity, unit_price, subtotal FROM order_items
+            WHERE order_id IN (:orderIds) ORDER BY id
+            """;
+
+    private static final String RANGE_WHERE = " FROM orders WHERE created_at >= :from AND created_at < :to";
+
+    private static final String UPDATE_STATUS_IF_CURRENT = """
+            UPDATE orders SET status = :newStatus, updated_at = :updatedAt, version = version + 1
+            WHERE id = :id AND status = :currentStatus
+            """;
+
+    private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> Order.builder()
+            .id(rs.getLong("id"))
+            .customer(Customer.builder().id(rs.getLong("customer_id")).build())
+            .totalAmount(rs.getBigDecimal("total_amount"))
+            .status(OrderStatus.valueOf(rs.getString("status")))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .version(rs.getLong("version"))
+            .build();
+
+    public void insert(Shard shard, Order order) {
+        shard.jdbcTemplate().update(INSERT_ORDER, new MapSqlParameterSource()
+                .addValue("id", order.getId())
+                .addValue("customerId", order.getCustomer().getId())
+                .addValue("totalAmount", order.getTotalAmount())
+                .addValue("status", order.getStatus().name())
+                .addValue("createdAt", Timestamp.valueOf(order.getCreatedAt()))
+                .addValue("updatedAt", Timestamp.valueOf(order.getUpdatedAt())));
+
+        SqlParameterSource[] items = order.getItems().stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("id", item.getId())
+                        .addValue("orderId", order.getId())
+                        .addValue("productName", item.getProductName())
+                        .addValue("quantity", item.getQuantity())
+                        .addValue("unitPrice", item.getUnitPrice())
+                        .addValue("subtotal", item.getSubtotal()))
+                .toArray(SqlParameterSource[]::new);
+        shard.jdbcTemplate().batchUpdate(INSERT_ITEM, items);
+    }
+
+    public Optional<Order> findById(Shard shard, Long id) {
+        Optional<Order> order = shard.jdbcTemplate()
+                .query(FIND_ORDER, new MapSqlParameterSource("id", id), ORDER_MAPPER)
+                .stream().findFirst();
+        order.ifPresent(found -> found.getItems().addAll(findItems(shard, List.of(id)).getOrDefault(id, List.of())));
+        return order;
+    }
+
+    /**
+     * Orders in {@code [offset, offset + limit)} of the shard's matching orders by
+     * {@code (createdAt, id)}, without their items. {@code customerId} and {@code status} are
+     * optional filters.
+     */
+    public List<Order> findPage(Shard shard, Long customerId, OrderStatus status, LocalDateTime from,
+                                LocalDateTime to, boolean ascending, long offset, int limit) {
+        String direction = ascending ? "ASC" : "DESC";
+        String sql = "SELECT " + ORDER_COLUMNS + RANGE_WHERE + filters(customerId, status)
+                + " ORDER BY created_at " + direction + ", id " + direction + " LIMIT :limit OFFSET :offset";
+        return shard.jdbcTemplate().query(sql, params(customerId, status, from, to)
+                .addValue("limit", limit)
+                .addValue("offset", offset), ORDER_MAPPER);
+    }
+
+    public long count(Shard shard, Long customerId, OrderStatus status, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT COUNT(*)" + RANGE_WHERE + filters(customerId, status);
+        Long count = shard.jdbcTemplate().queryForObject(sql, params(customerId, status, from, to), Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Items of the given orders keyed by order id.
+     */
+    public Map<Long, List<OrderItem>> findItems(Shard shard, Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        record Row(Long orderId, OrderItem item) {
+        }
+        return shard.jdbcTemplate().query(FIND_ITEMS, new MapSqlParameterSource("orderIds", orderIds),
+                        (rs, rowNum) -> new Row(rs.getLong("order_id"), OrderItem.builder()
+                                .id(rs.getLong("id"))
+                                .productName(rs.getString("product_name"))
+                                .quantity(rs.getInt("quantity"))
+                                .unitPrice(rs.getBigDecimal("unit_price"))
+                                .subtotal(rs.getBigDecimal("subtotal"))
+                                .build()))
+                .stream()
+                .collect(Collectors.groupingBy(Row::orderId, Collectors.mapping(Row::item, Collectors.toList())));
+    }
+
+    /**
+     * Moves the order to {@code newStatus} only if it is still in {@code currentStatus}, so a
+     * concurrent change is detected instead of overwritten. Returns whether it was updated.
+     */
+    public boolean updateStatusIfCurrent(Shard shard, Long id, OrderStatus currentStatus, OrderStatus newStatus,
+                                         LocalDateTime updatedAt) {
+        return shard.jdbcTemplate().update(UPDATE_STATUS_IF_CURRENT, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("currentStatus", currentStatus.name())
+                .addValue("newStatus", newStatus.name())
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt))) == 1;
+    }
+
+    /**
+     * Deletes the order; its items go with it through the cascading foreign key.
+     */
+    public boolean deleteById(Shard shard, Long id) {
+        return shard.jdbcTemplate().update("DELETE FROM orders WHERE id = :id", new MapSqlParameterSource("id", id)) == 1;
+    }
+
+    public int deleteByCustomerId(Shard shard, Long customerId) {
+        return shard.jdbcTemplate().update("DELETE FROM orders WHERE customer_id = :customerId",
+                new MapSqlParameterSource("customerId", customerId));
+    }
+
+    private static String filters(Long customerId, OrderStatus status) {
+        return (customerId != null ? " AND customer_id = :customerId" : "")
+                + (status != null ? " AND status = :status" : "");
+    }
+
+    private static MapSqlParameterSource params(Long customerId, OrderStatus status, LocalDateTime from,
+                                                LocalDateTime to) {
+        return new MapSqlParameterSource()
+                .addValue("customerId", customerId)
+                .addValue("status", status != null ? status.name() : null)
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to));
+    }
+}
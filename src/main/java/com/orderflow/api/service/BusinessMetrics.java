@@ -0,0 +1,50 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Business counters for order lifecycle and rule enforcement. Transition counters are registered
+ * up front so the hot path is two array-backed lookups and an increment.
+ */
+@Component
+public class BusinessMetrics {
+
+    public static final String STATUS_TRANSITIONS = "orderflow.orders.status.transitions";
+    public static final String REJECTIONS = "orderflow.business.rejections";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<OrderStatus, Map<OrderStatus, Counter>> transitions = new EnumMap<>(OrderStatus.class);
+
+    public BusinessMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (OrderStatus from : OrderStatus.values()) {
+            Map<OrderStatus, Counter> byTarget = new EnumMap<>(OrderStatus.class);
+            for (OrderStatus to : OrderStatus.values()) {
+                byTarget.put(to, Counter.builder(STATUS_TRANSITIONS)
+                        .description("Order status changes that were applied")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(meterRegistry));
+            }
+            transitions.put(from, byTarget);
+        }
+    }
+
+    public void statusTransition(OrderStatus from, OrderStatus to) {
+        transitions.get(from).get(to).increment();
+    }
+
+    public void statusTransitions(OrderStatus from, OrderStatus to, long count) {
+        transitions.get(from).get(to).increment(count);
+    }
+
+    public void rejection(String rule) {
+        meterRegistry.counter(REJECTIONS, "rule", rule).increment();
+    }
+}
@@ -0,0 +1,17 @@
+package com.orderflow.api.service;
+
+import java.util.function.LongSupplier;
+
+public enum CountMode {
+    NONE,
+    EXACT,
+    ESTIMATE;
+
+    Long total(LongSupplier estimatedCount, LongSupplier exactCount) {
+        return switch (this) {
+            case NONE -> null;
+            case EXACT -> exactCount.getAsLong();
+            case ESTIMATE -> estimatedCount.getAsLong();
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.exception.BusinessException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Half-open {@code [from, to)} window on the order creation time. Every order list query carries
+ * one; on PostgreSQL, where {@code orders} is partitioned by month of {@code created_at}, only the
+ * partitions it overlaps are scanned. A missing bound falls back to a sentinel that covers all rows.
+ */
+public record CreatedRange(LocalDateTime from, LocalDateTime to) {
+
+    static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    public static final CreatedRange ALL = new CreatedRange(KeysetCursor.MIN_TIMESTAMP, MAX_TIMESTAMP);
+
+    public static CreatedRange of(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        CreatedRange range = new CreatedRange(
+                createdFrom != null ? createdFrom : ALL.from(),
+                createdTo != null ? createdTo : ALL.to());
+        if (!range.from().isBefore(range.to())) {
+            throw new BusinessException("createdFrom must be before createdTo");
+        }
+        return range;
+    }
+
+    boolean isUnbounded() {
+        return equals(ALL);
+    }
+
+    String cacheKey() {
+        return from + ".." + to;
+    }
+}
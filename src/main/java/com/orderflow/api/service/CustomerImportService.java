@@ -0,0 +1,196 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.model.dto.CustomerImportRejectionDTO;
+import com.orderflow.api.model.dto.CustomerImportResultDTO;
+import com.orderflow.api.model.dto.CustomerRequestDTO;
+import com.orderflow.api.repository.CustomerImportRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerImportService {
+
+    private static final int CHUNK_SIZE = 5000;
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private final CustomerImportRepository customerImportRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    public CustomerImportResultDTO importCustomers(InputStream input, Format format) {
+        ImportProgress progress = new ImportProgress();
+        List<CustomerRequestDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = format == Format.CSV ? readCsvHeader(reader) : null;
+            long lineNumber = format == Format.CSV ? 1 : 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                progress.totalRows++;
+                CustomerRequestDTO customer = parse(line, format, header, lineNumber, progress);
+                if (customer == null) {
+                    continue;
+                }
+
+                chunk.add(customer);
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(chunk, progress);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read customer import", ex);
+        }
+
+        flush(chunk, progress);
+
+        return CustomerImportResultDTO.builder()
+                .totalRows(progress.totalRows)
+                .imported(progress.imported)
+                .skipped(progress.staged - progress.imported)
+                .rejected(progress.rejected)
+                .rejections(progress.rejections)
+                .rejectionsTruncated(progress.rejected > progress.rejections.size())
+                .build();
+    }
+
+    private CustomerRequestDTO parse(String line, Format format, Map<String, Integer> header,
+                                     long lineNumber, ImportProgress progress) {
+        CustomerRequestDTO customer;
+        try {
+            customer = format == Format.CSV ? fromCsv(line, header) : objectMapper.readValue(line, CustomerRequestDTO.class);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            progress.reject(lineNumber, List.of("Row could not be parsed"));
+            return null;
+        }
+
+        List<String> errors = validator.validate(customer).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+        if (!errors.isEmpty()) {
+            progress.reject(lineNumber, errors);
+            return null;
+        }
+        return customer;
+    }
+
+    private void flush(List<CustomerRequestDTO> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        progress.imported += customerImportRepository.insertIgnoringConflicts(chunk);
+        progress.staged += chunk.size();
+        chunk.clear();
+    }
+
+    private Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            throw new BusinessException("CSV import must start with a header row");
+        }
+
+        List<String> columns = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+
+        for (String required : List.of("name", "email", "phone", "documentnumber")) {
+            if (!header.containsKey(required)) {
+                throw new BusinessException("CSV header is missing column: " + required);
+            }
+        }
+        return header;
+    }
+
+    private CustomerRequestDTO fromCsv(String line, Map<String, Integer> header) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != header.size()) {
+            throw new IllegalArgumentException("Unexpected number of columns");
+        }
+
+        return CustomerRequestDTO.builder()
+                .name(fields.get(header.get("name")))
+                .email(fields.get(header.get("email")))
+                .phone(fields.get(header.get("phone")))
+                .documentNumber(fields.get(header.get("documentnumber")))
+                .build();
+    }
+
+    private List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static class ImportProgress {
+        private long totalRows;
+        private long staged;
+        private long imported;
+        private long rejected;
+        private final List<CustomerImportRejectionDTO> rejections = new ArrayList<>();
+
+        private void reject(long line, List<String> errors) {
+            rejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(new CustomerImportRejectionDTO(line, errors));
+            }
+        }
+    }
+}
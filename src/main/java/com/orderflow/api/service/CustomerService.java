@@ -1,27 +1,52 @@
 package com.orderflow.api.service;
 
+import com.orderflow.api.config.CacheConfig;
+import com.orderflow.api.config.DatabaseFeatures;
 import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.exception.PreconditionFailedException;
 import com.orderflow.api.exception.ResourceNotFoundException;
+import com.orderflow.api.model.dto.CursorPageResponseDTO;
 import com.orderflow.api.model.dto.CustomerRequestDTO;
 import com.orderflow.api.model.dto.CustomerResponseDTO;
+import com.orderflow.api.model.dto.SliceResponseDTO;
 import com.orderflow.api.model.entity.Customer;
 import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderArchiveRepository;
+import com.orderflow.api.repository.RowCountEstimator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
 @Service
 @RequiredArgsConstructor
+@Timed(value = "orderflow.service", histogram = true)
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final DatabaseFeatures databaseFeatures;
+    private final BusinessMetrics businessMetrics;
+    private final OrderStatsService orderStatsService;
+    private final OutboxService outboxService;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final ObjectProvider<ShardedOrderService> shardedOrderService;
 
     @Transactional
     public CustomerResponseDTO create(CustomerRequestDTO request) {
-        validateUniqueConstraints(request.getEmail(), request.getDocumentNumber(), null);
-
         Customer customer = Customer.builder()
                 .name(request.getName())
                 .email(request.getEmail())
@@ -29,17 +54,29 @@ public class CustomerService {
                 .documentNumber(request.getDocumentNumber())
                 .build();
 
-        Customer saved = customerRepository.save(customer);
+        Customer saved = saveEnforcingUniqueness(customer);
         return mapToResponseDTO(saved);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Not read-only on purpose: what this loads is cached for every client, so it must come from
+     * the primary rather than a read replica that may not have caught up with the last update.
+     */
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     public CustomerResponseDTO findById(Long id) {
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer", id));
         return mapToResponseDTO(customer);
     }
 
+    @Transactional(readOnly = true)
+    public String findETag(Long id) {
+        return customerRepository.findUpdatedAtById(id)
+                .map(updatedAt -> EntityTags.customer(id, updatedAt))
+                .orElseThrow(() -> new ResourceNotFoundException("Customer", id));
+    }
+
     @Transactional(readOnly = true)
     public Page<CustomerResponseDTO> findAll(Pageable pageable) {
         return customerRepository.findAll(pageable)
@@ -47,48 +84,134 @@ public class CustomerService {
     }
 
     @Transactional(readOnly = true)
-    public Page<CustomerResponseDTO> searchByName(String name, Pageable pageable) {
-        return customerRepository.findByNameContainingIgnoreCase(name, pageable)
+    public SliceResponseDTO<CustomerResponseDTO> findAllSlice(Pageable pageable, CountMode countMode) {
+        Slice<CustomerResponseDTO> slice = customerRepository.findSliceBy(pageable)
                 .map(this::mapToResponseDTO);
+        return SliceResponseDTO.of(slice, countMode.total(
+                () -> rowCountEstimator.estimateTableRows("customers", customerRepository::count),
+                customerRepository::count));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<CustomerResponseDTO> searchByNameSlice(String name, Pageable pageable, CountMode countMode) {
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Slice<Customer> customers = databaseFeatures.isPostgres()
+                ? customerRepository.searchSliceByNameRanked(escapeLike(name), name, unsorted)
+                : customerRepository.searchSliceByNameRankedFallback(escapeLike(name), name, unsorted);
+        Slice<CustomerResponseDTO> slice = customers.map(this::mapToResponseDTO);
+        LongSupplier exactCount = () -> customerRepository.countByNameContainingIgnoreCase(name);
+        return SliceResponseDTO.of(slice, countMode.total(
+                () -> rowCountEstimator.cachedCount("customers:name:" + name.toLowerCase(), exactCount),
+                exactCount));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<CustomerResponseDTO> findAllAfter(String after, int limit) {
+        KeysetCursor.validateLimit(limit);
+        KeysetCursor cursor = after != null ? KeysetCursor.decode(after) : new KeysetCursor("", 0);
+
+        List<Customer> customers = customerRepository.findAfter(cursor.key(), cursor.id(), PageRequest.of(0, limit + 1));
+        boolean hasNext = customers.size() > limit;
+
+        String nextCursor = null;
+        if (hasNext) {
+            customers = customers.subList(0, limit);
+            Customer last = customers.get(customers.size() - 1);
+            nextCursor = new KeysetCursor(last.getName(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDTO.<CustomerResponseDTO>builder()
+                .content(customers.stream().map(this::mapToResponseDTO).toList())
+                .limit(limit)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CustomerResponseDTO> searchByName(String name, Pageable pageable) {
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Customer> customers = databaseFeatures.isPostgres()
+                ? customerRepository.searchByNameRanked(escapeLike(name), name, unsorted)
+                : customerRepository.searchByNameRankedFallback(escapeLike(name), name, unsorted);
+        return customers.map(this::mapToResponseDTO);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     public CustomerResponseDTO update(Long id, CustomerRequestDTO request) {
-        Customer customer = customerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer", id));
+        return update(id, request, null);
+    }
 
-        validateUniqueConstraints(request.getEmail(), request.getDocumentNumber(), id);
+    /**
+     * Updates the customer only if it still has the tag in {@code ifMatch}. The row is locked
+     * while the tag is compared, so two updates sent with the same tag cannot both succeed.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
+    public CustomerResponseDTO update(Long id, CustomerRequestDTO request, String ifMatch) {
+        Customer customer = (ifMatch == null ? customerRepository.findById(id) : customerRepository.findByIdForUpdate(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Customer", id));
+        if (ifMatch != null && !EntityTags.matches(ifMatch, EntityTags.customer(id, customer.getUpdatedAt()))) {
+            throw new PreconditionFailedException("Customer has been modified");
+        }
 
         customer.setName(request.getName());
         customer.setEmail(request.getEmail());
         customer.setPhone(request.getPhone());
         customer.setDocumentNumber(request.getDocumentNumber());
 
-        Customer updated = customerRepository.save(customer);
+        Customer updated = saveEnforcingUniqueness(customer);
         return mapToResponseDTO(updated);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     public void delete(Long id) {
         if (!customerRepository.existsById(id)) {
             throw new ResourceNotFoundException("Customer", id);
         }
+        orderStatsService.recordCustomerOrdersDeleted(id);
+        outboxService.recordCustomerOrdersDeleted(id);
+        // Live orders are removed with the customer by the cascade on Customer.orders; both foreign
+        // keys restrict deletes, and archived orders have no entity mapping, so they go explicitly.
+        orderArchiveRepository.deleteByCustomerId(id);
+        // In sharded mode the orders live on the customer's shard, out of reach of this transaction;
+        // they are deleted first so a failure leaves the customer in place rather than orphaned orders.
+        shardedOrderService.ifAvailable(service -> service.deleteByCustomerId(id));
         customerRepository.deleteById(id);
     }
 
-    private void validateUniqueConstraints(String email, String documentNumber, Long excludeId) {
+    private Customer saveEnforcingUniqueness(Customer customer) {
+        try {
+            return customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateUniqueViolation(ex);
+        }
+    }
+
+    private RuntimeException translateUniqueViolation(DataIntegrityViolationException ex) {
+        String constraint = ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : ex.getMostSpecificCause().getMessage();
+        String normalized = String.valueOf(constraint).toLowerCase(Locale.ROOT);
 
-        customerRepository.findByEmail(email).ifPresent(existing -> {
-            if (excludeId == null || !existing.getId().equals(excludeId)) {
-                throw new BusinessException("Email already in use");
-            }
-        });
+        if (normalized.contains(Customer.EMAIL_CONSTRAINT)) {
+            businessMetrics.rejection("email_in_use");
+            return new BusinessException("Email already in use");
+        }
+        if (normalized.contains(Customer.DOCUMENT_NUMBER_CONSTRAINT)) {
+            businessMetrics.rejection("document_number_in_use");
+            return new BusinessException("Document number already in use");
+        }
+        return ex;
+    }
 
-        customerRepository.findByDocumentNumber(documentNumber).ifPresent(existing -> {
-            if (excludeId == null || !existing.getId().equals(excludeId)) {
-                throw new BusinessException("Document number already in use");
-            }
-        });
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 
     private CustomerResponseDTO mapToResponseDTO(Customer customer) {
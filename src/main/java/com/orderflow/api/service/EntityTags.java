@@ -0,0 +1,81 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.repository.OrderArchiveRepository.ArchivedOrder;
+import com.orderflow.api.repository.OrderVersionStamp;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Strong ETags built from the columns that change whenever a representation changes, so they can
+ * be computed from a narrow query without loading the entity. An order's representation also
+ * carries the customer name, so the customer's {@code updated_at} is part of its tag.
+ */
+public final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private EntityTags() {
+    }
+
+    public static String customer(Long id, LocalDateTime updatedAt) {
+        return quote(id + "-" + micros(updatedAt));
+    }
+
+    public static String order(OrderVersionStamp stamp) {
+        return quote(stamp.id() + "-" + stamp.version() + "-" + micros(stamp.customerUpdatedAt()));
+    }
+
+    /**
+     * Same tag as {@link #order(OrderVersionStamp)}, taken from an order loaded with its customer
+     * so it describes exactly the representation built from that order.
+     */
+    public static String order(Order order) {
+        return order(new OrderVersionStamp(order.getId(), order.getVersion(), order.getCustomer().getUpdatedAt()));
+    }
+
+    public static String order(ArchivedOrder order) {
+        return order(new OrderVersionStamp(order.id(), order.version(), order.customerUpdatedAt()));
+    }
+
+    /**
+     * Strong comparison of an {@code If-Match} header against the current tag. Weak tags never
+     * match, as required for preconditions on unsafe methods.
+     */
+    public static boolean matches(String ifMatch, String current) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY) || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Weak comparison of an {@code If-None-Match} header against the current tag, as used to
+     * answer a conditional GET with 304.
+     */
+    public static boolean matchesWeakly(String ifNoneMatch, String current) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(ANY) || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long micros(LocalDateTime timestamp) {
+        return ChronoUnit.MICROS.between(EPOCH, timestamp);
+    }
+
+    private static String quote(String value) {
+        return '"' + value + '"';
+    }
+}
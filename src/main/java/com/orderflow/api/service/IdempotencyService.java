@@ -0,0 +1,184 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.exception.ConflictException;
+import com.orderflow.api.repository.IdempotencyRepository;
+import com.orderflow.api.repository.IdempotencyRepository.StoredResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a create at most once per {@code Idempotency-Key}. Duplicates arriving while the first
+ * request is still running wait on its result in memory; the stored response is written in the
+ * same transaction as the create, so a primary key violation is what decides the winner across
+ * instances or once the in-memory map is full.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${orderflow.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${orderflow.idempotency.max-in-flight:10000}")
+    private int maxInFlight;
+
+    @Value("${orderflow.idempotency.wait-timeout:30s}")
+    private Duration waitTimeout;
+
+    public <T> IdempotentResult<T> execute(String scope, String key, Object request, Class<T> responseType,
+                                           Supplier<T> action) {
+        if (key == null) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String requestHash = hash(request);
+        Optional<T> stored = findStored(scope, key, requestHash, responseType);
+        if (stored.isPresent()) {
+            return new IdempotentResult<>(stored.get(), true);
+        }
+
+        String slot = scope + ':' + key;
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.size() < maxInFlight ? inFlight.putIfAbsent(slot, mine) : null;
+        if (running != null) {
+            return new IdempotentResult<>(awaitRunning(running, requestHash, responseType), true);
+        }
+
+        boolean tracked = inFlight.get(slot) == mine;
+        try {
+            IdempotentResult<T> result = executeOnce(scope, key, requestHash, responseType, action);
+            mine.result().complete(result.body());
+            return result;
+        } catch (RuntimeException ex) {
+            mine.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            if (tracked) {
+                inFlight.remove(slot, mine);
+            }
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${orderflow.idempotency.cleanup-interval:PT10M}")
+    public void deleteExpired() {
+        idempotencyRepository.deleteAllExpired(LocalDateTime.now());
+    }
+
+    private <T> IdempotentResult<T> executeOnce(String scope, String key, String requestHash, Class<T> responseType,
+                                                Supplier<T> action) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        idempotencyRepository.deleteExpired(scope, key, now);
+
+        try {
+            T body = transactionTemplate.execute(tx -> {
+                T response = action.get();
+                idempotencyRepository.insert(scope, key, requestHash, toJson(response), now, now.plus(ttl));
+                return response;
+            });
+            return new IdempotentResult<>(body, false);
+        } catch (DuplicateKeyException ex) {
+            return findStored(scope, key, requestHash, responseType)
+                    .map(body -> new IdempotentResult<>(body, true))
+                    .orElseThrow(() -> ex);
+        }
+    }
+
+    private <T> Optional<T> findStored(String scope, String key, String requestHash, Class<T> responseType) {
+        return idempotencyRepository.findValid(scope, key, LocalDateTime.now()).map(stored -> {
+            verifySameRequest(stored.requestHash(), requestHash);
+            return fromJson(stored, responseType);
+        });
+    }
+
+    private <T> T awaitRunning(InFlight running, String requestHash, Class<T> responseType) {
+        verifySameRequest(running.requestHash(), requestHash);
+        try {
+            return responseType.cast(running.result().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException ex) {
+            throw new ConflictException("A request with this " + HEADER + " is still being processed");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while waiting for a request with the same " + HEADER);
+        }
+    }
+
+    private void verifySameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new BusinessException(HEADER + " was already used with a different request");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(toJson(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize idempotent response", ex);
+        }
+    }
+
+    private <T> T fromJson(StoredResponse stored, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(stored.responseBody(), responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to read stored idempotent response", ex);
+        }
+    }
+
+    public record IdempotentResult<T>(T body, boolean replayed) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<Object> result) {
+    }
+}
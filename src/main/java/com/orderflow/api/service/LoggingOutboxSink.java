@@ -0,0 +1,17 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.repository.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.info("outbox {} {} {} {}", message.id(), message.eventType(), message.aggregateId(), message.payload());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.config.PermitLimitedDataSource;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.OrderArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves COMPLETED orders that have not changed for {@code orderflow.archive.age} into the archive
+ * tables, one batch per transaction. Completed orders can no longer change, so nothing but
+ * lookups by id ever needs them again. The job yields to request traffic: after each batch it
+ * pauses long enough to keep its share of wall time under {@code orderflow.archive.duty-cycle},
+ * and it stops until the next run as soon as threads are waiting for a connection.
+ */
+@Component
+public class OrderArchiver {
+
+    public static final String ARCHIVED = "orderflow.archive.orders";
+    public static final String DEFERRED = "orderflow.archive.deferred";
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PermitLimitedDataSource permits;
+    private final Counter archived;
+    private final Counter deferred;
+
+    @Value("${orderflow.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${orderflow.archive.age:90d}")
+    private Duration age;
+
+    @Value("${orderflow.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${orderflow.archive.duty-cycle:0.25}")
+    private double dutyCycle;
+
+    public OrderArchiver(OrderArchiveRepository orderArchiveRepository, TransactionTemplate transactionTemplate,
+                         DataSource dataSource, MeterRegistry meterRegistry) {
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.permits = PermitLimitedDataSource.find(dataSource).orElse(null);
+        this.archived = Counter.builder(ARCHIVED)
+                .description("Completed orders moved to the archive tables")
+                .register(meterRegistry);
+        this.deferred = Counter.builder(DEFERRED)
+                .description("Archival runs cut short because threads were waiting for a connection")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${orderflow.archive.interval:PT5M}")
+    public void poll() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    public long archive() {
+        return archiveCompletedBefore(LocalDateTime.now().minus(age));
+    }
+
+    /**
+     * Archives COMPLETED orders last changed before {@code cutoff}, batch by batch, until none
+     * are left or the database is under load. Returns the number of orders moved.
+     */
+    public long archiveCompletedBefore(LocalDateTime cutoff) {
+        long total = 0;
+        while (true) {
+            if (underLoad()) {
+                deferred.increment();
+                return total;
+            }
+
+            long start = System.nanoTime();
+            int moved = archiveBatch(cutoff);
+            total += moved;
+            if (moved < batchSize || !pause(System.nanoTime() - start)) {
+                return total;
+            }
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(tx -> {
+            List<Long> ids = orderArchiveRepository.claim(OrderStatus.COMPLETED, cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            return orderArchiveRepository.move(ids, cutoff, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        });
+        archived.increment(moved);
+        return moved;
+    }
+
+    private boolean underLoad() {
+        return permits != null && permits.queuedThreads() > 0;
+    }
+
+    /**
+     * Sleeps so that a batch that took {@code batchNanos} makes up at most {@code dutyCycle} of
+     * the time spent. Returns false if interrupted.
+     */
+    private boolean pause(long batchNanos) {
+        if (dutyCycle >= 1) {
+            return true;
+        }
+        long pauseNanos = (long) (batchNanos * (1 - dutyCycle) / dutyCycle);
+        try {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.model.dto.OrderBulkStatusRequestDTO;
+import com.orderflow.api.model.dto.OrderBulkStatusResponseDTO;
+import com.orderflow.api.model.dto.OrderStatusFilterDTO;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.OrderStatusBulkRepository;
+import com.orderflow.api.repository.OrderStatusSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves many orders to one status with chunked set-based UPDATEs, each chunk in its own
+ * transaction. The allowed source statuses come from {@link OrderService#predecessorsOf} and are
+ * applied in the SQL predicate, so no order is loaded as an entity. Each locked chunk is handed to
+ * {@link OrderService#changeStatusOfLocked}, which owns the side effects of a status change.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderBulkStatusService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private final OrderStatusBulkRepository orderStatusBulkRepository;
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderBulkStatusResponseDTO updateStatus(OrderBulkStatusRequestDTO request) {
+        boolean byIds = request.getIds() != null;
+        if (byIds == (request.getFilter() != null)) {
+            throw new BusinessException("Provide either ids or filter, but not both");
+        }
+
+        OrderStatus target = request.getStatus();
+        Set<OrderStatus> fromStatuses = EnumSet.noneOf(OrderStatus.class);
+        fromStatuses.addAll(OrderService.predecessorsOf(target));
+        BulkProgress progress = new BulkProgress();
+
+        if (byIds) {
+            updateByIds(new ArrayList<>(new LinkedHashSet<>(request.getIds())), target, fromStatuses, progress);
+        } else {
+            OrderStatusFilterDTO filter = request.getFilter();
+            if (filter.getStatus() == null && filter.getCustomerId() == null
+                    && filter.getCreatedFrom() == null && filter.getCreatedTo() == null) {
+                throw new BusinessException("filter must set at least one of status, customerId, createdFrom or createdTo");
+            }
+            if (filter.getStatus() != null) {
+                fromStatuses.retainAll(Set.of(filter.getStatus()));
+            }
+            if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                    && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+                throw new BusinessException("createdFrom must be before createdTo");
+            }
+            if (!fromStatuses.isEmpty()) {
+                updateByFilter(filter, target, fromStatuses, progress);
+            }
+        }
+
+        return OrderBulkStatusResponseDTO.builder()
+                .status(target)
+                .moved(progress.moved)
+                .rejected(progress.rejected)
+                .rejectedIds(progress.rejectedIds)
+                .rejectedIdsTruncated(progress.rejected > progress.rejectedIds.size())
+                .build();
+    }
+
+    private void updateByIds(List<Long> ids, OrderStatus target, Set<OrderStatus> fromStatuses, BulkProgress progress) {
+        for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + CHUNK_SIZE, ids.size()));
+            List<OrderStatusSnapshot> moved = transactionTemplate.execute(tx -> {
+                List<OrderStatusSnapshot> candidates = fromStatuses.isEmpty()
+                        ? List.of()
+                        : orderStatusBulkRepository.lockByIds(chunk, fromStatuses);
+                return orderService.changeStatusOfLocked(candidates, target);
+            });
+
+            progress.moved += moved.size();
+            Set<Long> movedIds = moved.stream().map(OrderStatusSnapshot::id).collect(Collectors.toCollection(HashSet::new));
+            for (Long id : chunk) {
+                if (!movedIds.contains(id)) {
+                    progress.reject(id);
+                }
+            }
+        }
+    }
+
+    private void updateByFilter(OrderStatusFilterDTO filter, OrderStatus target, Set<OrderStatus> fromStatuses,
+                                BulkProgress progress) {
+        long afterId = 0;
+        while (true) {
+            long lastId = afterId;
+            List<OrderStatusSnapshot> moved = transactionTemplate.execute(tx -> {
+                List<OrderStatusSnapshot> candidates =
+                        orderStatusBulkRepository.lockNextMatching(filter, fromStatuses, lastId, CHUNK_SIZE);
+                return orderService.changeStatusOfLocked(candidates, target);
+            });
+
+            progress.moved += moved.size();
+            if (moved.size() < CHUNK_SIZE) {
+                return;
+            }
+            afterId = moved.get(moved.size() - 1).id();
+        }
+    }
+
+    private static class BulkProgress {
+        private long moved;
+        private long rejected;
+        private final List<Long> rejectedIds = new ArrayList<>();
+
+        private void reject(Long id) {
+            rejected++;
+            if (rejectedIds.size() < MAX_REPORTED_REJECTIONS) {
+                rejectedIds.add(id);
+            }
+        }
+    }
+}
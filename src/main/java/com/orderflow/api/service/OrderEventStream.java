@@ -0,0 +1,286 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.model.dto.OrderEventDTO;
+import com.orderflow.api.model.entity.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed order events to Server-Sent Events subscribers.
+ *
+ * <p>Committing threads only hand events to a single dispatcher thread, which numbers them, keeps
+ * the last {@code replay-size} for {@code Last-Event-ID} resumption and offers them to every
+ * subscriber's bounded queue. Each subscriber is drained by its own virtual thread, so a slow
+ * client only fills its own queue. When that queue is full the subscriber is either disconnected
+ * (it can resume from the replay buffer) or the event is dropped and a {@code lagged} event tells
+ * it how many were lost. A resuming client's missed events are sent ahead of its queue, so any
+ * backlog still in the replay buffer can be caught up. A {@code reset} event means the requested
+ * position is no longer available and the client should reload state through the REST API.
+ *
+ * <p>Event ids are per node, seeded from the clock at startup so they keep increasing across
+ * restarts.
+ */
+@Service
+public class OrderEventStream {
+
+    public static final String SUBSCRIBERS = "orderflow.events.subscribers";
+    public static final String OVERFLOWS = "orderflow.events.overflows";
+
+    private static final StreamedEvent HEARTBEAT = new StreamedEvent(0, null, null, null, null);
+    private static final StreamedEvent RESET = new StreamedEvent(0, "reset", null, null, "{}");
+
+    public enum OverflowPolicy {
+        DISCONNECT,
+        DROP
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Counter overflows;
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("order-events-dispatcher").factory());
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("order-events-sender-", 0).factory());
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<StreamedEvent> history = new ArrayDeque<>();
+    private final Object historyLock = new Object();
+    private long lastId = System.currentTimeMillis() * 1000;
+
+    @Value("${orderflow.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${orderflow.events.replay-size:10000}")
+    private int replaySize;
+
+    @Value("${orderflow.events.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${orderflow.events.overflow:DISCONNECT}")
+    private OverflowPolicy overflowPolicy;
+
+    public OrderEventStream(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.overflows = Counter.builder(OVERFLOWS)
+                .description("Events a subscriber could not buffer")
+                .register(meterRegistry);
+        Gauge.builder(SUBSCRIBERS, subscribers, Set::size)
+                .description("Connected order event subscribers")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(OrderStatus status, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, status);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        try {
+            // Commits the response now; otherwise clients wait for headers until the first event or heartbeat.
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException ex) {
+            subscriber.close();
+            return emitter;
+        }
+
+        synchronized (historyLock) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        // The emitter may already have failed; close() then ran before the subscriber was added.
+        if (subscriber.closed) {
+            subscribers.remove(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(OrderEventsRecorded recorded) {
+        dispatcher.execute(() -> dispatch(recorded.events()));
+    }
+
+    @Scheduled(fixedDelayString = "${orderflow.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        senders.shutdownNow();
+    }
+
+    private void dispatch(List<OrderEventDTO> events) {
+        synchronized (historyLock) {
+            for (OrderEventDTO event : events) {
+                StreamedEvent streamed = new StreamedEvent(++lastId, event.getType().name(), event.getStatus(),
+                        event.getPreviousStatus(), toJson(event));
+                history.addLast(streamed);
+                if (history.size() > replaySize) {
+                    history.removeFirst();
+                }
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(streamed);
+                }
+            }
+        }
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        StreamedEvent oldest = history.peekFirst();
+        long firstAvailable = oldest != null ? oldest.id() : lastId + 1;
+        if (lastEventId > lastId || lastEventId < firstAvailable - 1) {
+            subscriber.offer(RESET);
+            return;
+        }
+        List<StreamedEvent> missed = history.stream()
+                .filter(event -> event.id() > lastEventId && subscriber.matches(event))
+                .toList();
+        subscriber.resumeWith(missed);
+    }
+
+    private String toJson(OrderEventDTO event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize order event", ex);
+        }
+    }
+
+    private record StreamedEvent(long id, String name, OrderStatus status, OrderStatus previousStatus, String json) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final OrderStatus status;
+        private final BlockingQueue<StreamedEvent> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile List<StreamedEvent> backlog = List.of();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, OrderStatus status) {
+            this.emitter = emitter;
+            this.status = status;
+        }
+
+        private void offer(StreamedEvent event) {
+            if (closed || !matches(event)) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                overflows.increment();
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    close();
+                    emitter.complete();
+                    return;
+                }
+                dropped.incrementAndGet();
+            }
+            schedule();
+        }
+
+        /**
+         * Sends the replayed events before anything queued, bypassing the queue bound; they come
+         * from the replay buffer, which is already bounded.
+         */
+        private void resumeWith(List<StreamedEvent> missed) {
+            if (!missed.isEmpty()) {
+                backlog = missed;
+                schedule();
+            }
+        }
+
+        private void heartbeat() {
+            if (!closed && queue.offer(HEARTBEAT)) {
+                schedule();
+            }
+        }
+
+        private boolean matches(StreamedEvent event) {
+            return status == null || event.status() == null || event.status() == status || event.previousStatus() == status;
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                List<StreamedEvent> replayed = backlog;
+                backlog = List.of();
+                for (StreamedEvent event : replayed) {
+                    send(event);
+                }
+                do {
+                    long lost = dropped.getAndSet(0);
+                    if (lost > 0) {
+                        emitter.send(SseEmitter.event().name("lagged").data("{\"dropped\":" + lost + "}", MediaType.APPLICATION_JSON));
+                    }
+                    StreamedEvent event;
+                    while ((event = queue.poll()) != null) {
+                        send(event);
+                    }
+                    draining.set(false);
+                } while ((!queue.isEmpty() || dropped.get() > 0) && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException ex) {
+                close();
+            }
+        }
+
+        private void send(StreamedEvent event) throws IOException {
+            if (event == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else if (event == RESET) {
+                emitter.send(SseEmitter.event().name(event.name()).data(event.json(), MediaType.APPLICATION_JSON));
+            } else {
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.id()))
+                        .name(event.name())
+                        .data(event.json(), MediaType.APPLICATION_JSON));
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.dto.OrderEventDTO;
+
+import java.util.List;
+
+/**
+ * Published inside the transaction that recorded the events; listeners that must only see
+ * committed changes use {@code @TransactionalEventListener}.
+ */
+public record OrderEventsRecorded(List<OrderEventDTO> events) {
+}
@@ -0,0 +1,121 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.orderflow.api.model.dto.OrderItemResponseDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String CSV_HEADER = "order_id,customer_id,customer_name,status,total_amount,created_at,updated_at,"
+            + "item_id,product_name,quantity,unit_price,subtotal";
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Format format, OrderStatus status, Long customerId, CreatedRange range, OutputStream output)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(OrderResponseDTO.class);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Long> ids = orderRepository.streamIdsForExport(status, customerId, range.from(), range.to())) {
+            Iterator<Long> iterator = ids.iterator();
+            List<Long> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(chunk, format, jsonWriter, writer);
+                    chunk.clear();
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeChunk(List<Long> ids, Format format, ObjectWriter jsonWriter, Writer writer) throws IOException {
+        for (Order order : orderRepository.findWithDetailsInIdOrder(ids)) {
+            OrderResponseDTO dto = OrderService.mapToResponseDTO(order);
+            if (format == Format.CSV) {
+                writeCsv(dto, writer);
+            } else {
+                writer.write(jsonWriter.writeValueAsString(dto));
+                writer.write('\n');
+            }
+        }
+
+        writer.flush();
+        entityManager.clear();
+    }
+
+    private void writeCsv(OrderResponseDTO order, Writer writer) throws IOException {
+        String orderColumns = String.join(",",
+                String.valueOf(order.getId()),
+                String.valueOf(order.getCustomerId()),
+                csv(order.getCustomerName()),
+                order.getStatus().name(),
+                order.getTotalAmount().toPlainString(),
+                String.valueOf(order.getCreatedAt()),
+                String.valueOf(order.getUpdatedAt()));
+
+        if (order.getItems().isEmpty()) {
+            writer.write(orderColumns);
+            writer.write(",,,,,\n");
+            return;
+        }
+
+        for (OrderItemResponseDTO item : order.getItems()) {
+            writer.write(orderColumns);
+            writer.write(',');
+            writer.write(String.join(",",
+                    String.valueOf(item.getId()),
+                    csv(item.getProductName()),
+                    String.valueOf(item.getQuantity()),
+                    item.getUnitPrice().toPlainString(),
+                    item.getSubtotal().toPlainString()));
+            writer.write('\n');
+        }
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
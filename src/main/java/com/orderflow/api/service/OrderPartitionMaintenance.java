@@ -0,0 +1,44 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.config.DatabaseFeatures;
+import com.orderflow.api.repository.OrderPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps monthly order partitions created {@code orderflow.partitions.months-ahead} months ahead of
+ * the current date, at startup and then on {@code orderflow.partitions.maintenance-cron}. Orders
+ * that fall outside every partition go to the default partition, which blocks creating the month
+ * they belong to, so the lead should comfortably exceed the time between runs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionMaintenance {
+
+    private final OrderPartitionRepository orderPartitionRepository;
+    private final DatabaseFeatures databaseFeatures;
+
+    @Value("${orderflow.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${orderflow.partitions.maintenance-cron:-}")
+    public void createUpcomingPartitions() {
+        if (!databaseFeatures.isPostgres()) {
+            return;
+        }
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        int created = orderPartitionRepository.createMonthlyPartitions(thisMonth, thisMonth.plusMonths(monthsAhead));
+        if (created > 0) {
+            log.info("Created {} monthly order partitions", created);
+        }
+    }
+}
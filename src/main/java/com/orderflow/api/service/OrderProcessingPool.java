@@ -0,0 +1,165 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.repository.OrderStatusBulkRepository;
+import com.orderflow.api.repository.OrderStatusSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Works through CREATED orders. Each worker claims a batch with {@code FOR UPDATE SKIP LOCKED},
+ * moves it to PROCESSING, runs the {@link OrderProcessor} on every order and moves the ones it
+ * completed to COMPLETED, all in one transaction. Both moves go through
+ * {@link OrderService#changeStatusOfLocked}, so the usual transition rules apply. Concurrent
+ * workers, in this process or in other instances, claim disjoint batches.
+ */
+@Component
+public class OrderProcessingPool {
+
+    public static final String PROCESSED = "orderflow.processing.orders";
+    public static final String QUEUE_TIME = "orderflow.processing.queue.time";
+    public static final String LAG = "orderflow.processing.lag";
+
+    private final OrderStatusBulkRepository orderStatusBulkRepository;
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final OrderProcessor processor;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OrderStatus, Counter> processed = new EnumMap<>(OrderStatus.class);
+    private final Timer queueTime;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${orderflow.processing.batch-size:100}")
+    private int batchSize;
+
+    @Value("${orderflow.processing.workers:4}")
+    private int workers;
+
+    @Value("${orderflow.processing.enabled:false}")
+    private boolean enabled;
+
+    public OrderProcessingPool(OrderStatusBulkRepository orderStatusBulkRepository, OrderRepository orderRepository,
+                               OrderService orderService, OrderProcessor processor,
+                               TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.orderStatusBulkRepository = orderStatusBulkRepository;
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.processor = processor;
+        this.transactionTemplate = transactionTemplate;
+        for (OrderStatus outcome : List.of(OrderStatus.PROCESSING, OrderStatus.COMPLETED)) {
+            processed.put(outcome, Counter.builder(PROCESSED)
+                    .description("Orders taken off the CREATED queue, by the status they were left in")
+                    .tag("status", outcome.name())
+                    .register(meterRegistry));
+        }
+        this.queueTime = Timer.builder(QUEUE_TIME)
+                .description("Time from order creation until a worker processed it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        TimeGauge.builder(LAG, lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Age of the oldest CREATED order when the pool last polled")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${orderflow.processing.poll-interval:PT1S}")
+    public void poll() {
+        if (enabled) {
+            updateLag();
+            processPending(workers);
+        }
+    }
+
+    public long processPending() {
+        return processPending(workers);
+    }
+
+    public long processPending(int workerCount) {
+        if (workerCount <= 1) {
+            return drain();
+        }
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("order-processing-", 0).factory())) {
+            long total = 0;
+            for (Future<Long> result : executor.invokeAll(Collections.nCopies(workerCount, (Callable<Long>) this::drain))) {
+                total += result.get();
+            }
+            return total;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime now = LocalDateTime.now();
+        lagMillis.set(orderRepository.findOldestCreatedAtByStatus(OrderStatus.CREATED)
+                .map(oldest -> Math.max(0, Duration.between(oldest, now).toMillis()))
+                .orElse(0L));
+    }
+
+    private long drain() {
+        long total = 0;
+        int claimed;
+        do {
+            claimed = processBatch();
+            total += claimed;
+        } while (claimed == batchSize);
+        return total;
+    }
+
+    private int processBatch() {
+        Map<OrderStatus, List<OrderStatusSnapshot>> outcomes = transactionTemplate.execute(tx -> {
+            List<OrderStatusSnapshot> claimed = orderStatusBulkRepository.claimByStatus(OrderStatus.CREATED, batchSize);
+            Map<OrderStatus, List<OrderStatusSnapshot>> byOutcome = new EnumMap<>(OrderStatus.class);
+            for (OrderStatusSnapshot order : orderService.changeStatusOfLocked(claimed, OrderStatus.PROCESSING)) {
+                OrderStatus outcome = processor.process(order);
+                if (!processed.containsKey(outcome)) {
+                    throw new IllegalStateException("Order processor returned " + outcome + " for order " + order.id());
+                }
+                byOutcome.computeIfAbsent(outcome, status -> new ArrayList<>()).add(order);
+            }
+            orderService.changeStatusOfLocked(byOutcome.getOrDefault(OrderStatus.COMPLETED, List.of()),
+                    OrderStatus.COMPLETED);
+            return byOutcome;
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (Map.Entry<OrderStatus, List<OrderStatusSnapshot>> outcome : outcomes.entrySet()) {
+            processed.get(outcome.getKey()).increment(outcome.getValue().size());
+            for (OrderStatusSnapshot order : outcome.getValue()) {
+                queueTime.record(Duration.between(order.createdAt(), now));
+            }
+            total += outcome.getValue().size();
+        }
+        return total;
+    }
+}
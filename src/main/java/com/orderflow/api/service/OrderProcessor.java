@@ -0,0 +1,16 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.OrderStatusSnapshot;
+
+/**
+ * Step run by {@link OrderProcessingPool} for each claimed order, after it has been moved to
+ * PROCESSING and while its row is still locked. It returns the status the order should end in:
+ * COMPLETED, or PROCESSING to leave it for something else to finish. If it throws, the whole batch
+ * rolls back to CREATED and is claimed again later, so a step with side effects must tolerate
+ * running more than once for the same order.
+ */
+public interface OrderProcessor {
+
+    OrderStatus process(OrderStatusSnapshot order);
+}
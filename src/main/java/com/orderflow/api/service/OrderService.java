@@ -1,116 +1,576 @@
 package com.orderflow.api.service;
 
 import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.exception.PreconditionFailedException;
 import com.orderflow.api.exception.ResourceNotFoundException;
+import com.orderflow.api.model.dto.CursorPageResponseDTO;
+import com.orderflow.api.model.dto.CustomerResponseDTO;
+import com.orderflow.api.model.dto.OrderBatchResponseDTO;
+import com.orderflow.api.model.dto.OrderBatchResultDTO;
 import com.orderflow.api.model.dto.OrderItemRequestDTO;
 import com.orderflow.api.model.dto.OrderItemResponseDTO;
 import com.orderflow.api.model.dto.OrderRequestDTO;
 import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.dto.OrderSummaryDTO;
+import com.orderflow.api.model.dto.SliceResponseDTO;
 import com.orderflow.api.model.entity.Customer;
 import com.orderflow.api.model.entity.Order;
 import com.orderflow.api.model.entity.OrderItem;
 import com.orderflow.api.model.entity.OrderStatus;
 import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderArchiveRepository;
+import com.orderflow.api.repository.OrderArchiveRepository.ArchivedOrder;
 import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.repository.OrderStatusBulkRepository;
+import com.orderflow.api.repository.OrderStatusSnapshot;
+import com.orderflow.api.repository.OrderVersionStamp;
+import com.orderflow.api.repository.RowCountEstimator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "orderflow.service", histogram = true)
 public class OrderService {
 
+    private static final int MAX_STATUS_UPDATE_ATTEMPTS = 5;
+
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final CustomerService customerService;
+    private final BusinessMetrics businessMetrics;
+    private final OrderStatsService orderStatsService;
+    private final OutboxService outboxService;
+    private final OrderStatusBulkRepository orderStatusBulkRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
 
     @Transactional
     public OrderResponseDTO create(OrderRequestDTO request) {
-        Customer customer = customerRepository.findById(request.getCustomerId())
-                .orElseThrow(() -> new ResourceNotFoundException("Customer", request.getCustomerId()));
+        CustomerResponseDTO customer = customerService.findById(request.getCustomerId());
 
-        Order order = Order.builder()
-                .customer(customer)
-                .status(OrderStatus.CREATED)
-                .totalAmount(BigDecimal.ZERO)
-                .build();
+        Order order = buildOrder(customerRepository.getReferenceById(customer.getId()), request);
+        Order saved = orderRepository.save(order);
+        orderStatsService.recordCreated(List.of(saved));
+        outboxService.recordCreated(List.of(saved));
+        return mapToResponseDTO(saved, customer.getName());
+    }
 
-        for (OrderItemRequestDTO itemDTO : request.getItems()) {
-            OrderItem item = OrderItem.builder()
-                    .productName(itemDTO.getProductName())
-                    .quantity(itemDTO.getQuantity())
-                    .unitPrice(itemDTO.getUnitPrice())
-                    .build();
-            item.calculateSubtotal();
-            order.addItem(item);
+    @Transactional
+    public OrderBatchResponseDTO createBatch(List<OrderRequestDTO> requests) {
+        Set<Long> customerIds = requests.stream()
+                .map(OrderRequestDTO::getCustomerId)
+                .collect(Collectors.toSet());
+        Map<Long, Customer> customers = customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (OrderRequestDTO request : requests) {
+            Customer customer = customers.get(request.getCustomerId());
+            orders.add(customer != null ? buildOrder(customer, request) : null);
         }
 
-        order.calculateTotalAmount();
-        Order saved = orderRepository.save(order);
-        return mapToResponseDTO(saved);
+        List<Order> toSave = orders.stream().filter(Objects::nonNull).toList();
+        orderRepository.saveAll(toSave);
+        orderStatsService.recordCreated(toSave);
+        outboxService.recordCreated(toSave);
+
+        List<OrderBatchResultDTO> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Order order = orders.get(i);
+            if (order == null) {
+                results.add(OrderBatchResultDTO.builder()
+                        .index(i)
+                        .created(false)
+                        .message(new ResourceNotFoundException("Customer", requests.get(i).getCustomerId()).getMessage())
+                        .build());
+            } else {
+                results.add(OrderBatchResultDTO.builder()
+                        .index(i)
+                        .created(true)
+                        .orderId(order.getId())
+                        .totalAmount(order.getTotalAmount())
+                        .build());
+            }
+        }
+
+        int created = (int) results.stream().filter(OrderBatchResultDTO::isCreated).count();
+        return OrderBatchResponseDTO.builder()
+                .received(requests.size())
+                .created(created)
+                .rejected(requests.size() - created)
+                .results(results)
+                .build();
     }
 
+    /**
+     * Looks the order up in {@code orders} first and falls back to the archive, so callers see
+     * archived orders exactly like live ones.
+     */
     @Transactional(readOnly = true)
     public OrderResponseDTO findById(Long id) {
-        Order order = orderRepository.findById(id)
+        return findTaggedById(id).order();
+    }
+
+    /**
+     * Like {@link #findById(Long)}, with the ETag taken from the same rows as the representation
+     * so the two always agree.
+     */
+    @Transactional(readOnly = true)
+    public TaggedOrder findTaggedById(Long id) {
+        return orderRepository.findWithDetailsById(id)
+                .map(order -> new TaggedOrder(mapToResponseDTO(order), EntityTags.order(order)))
+                .or(() -> orderArchiveRepository.findById(id)
+                        .map(order -> new TaggedOrder(mapToResponseDTO(order), EntityTags.order(order))))
                 .orElseThrow(() -> new ResourceNotFoundException("Order", id));
-        return mapToResponseDTO(order);
+    }
+
+    /**
+     * The order's current ETag from a narrow query, for answering conditional requests without
+     * loading the order.
+     */
+    @Transactional(readOnly = true)
+    public String findETag(Long id) {
+        return EntityTags.order(findVersionStamp(id));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<OrderResponseDTO> findAll(CreatedRange range, Pageable pageable) {
+        return orderRepository.findAllWithDetails(range.from(), range.to(), pageable)
+                .map(OrderService::mapToResponseDTO);
     }
 
     @Transactional(readOnly = true)
-    public Page<OrderResponseDTO> findAll(Pageable pageable) {
-        return orderRepository.findAll(pageable)
-                .map(this::mapToResponseDTO);
+    public Page<OrderResponseDTO> findByCustomerId(Long customerId, CreatedRange range, Pageable pageable) {
+        return orderRepository.findWithDetailsByCustomerId(customerId, range.from(), range.to(), pageable)
+                .map(OrderService::mapToResponseDTO);
     }
 
     @Transactional(readOnly = true)
-    public Page<OrderResponseDTO> findByCustomerId(Long customerId, Pageable pageable) {
-        return orderRepository.findByCustomerId(customerId, pageable)
-                .map(this::mapToResponseDTO);
+    public Page<OrderResponseDTO> findByStatus(OrderStatus status, CreatedRange range, Pageable pageable) {
+        return orderRepository.findWithDetailsByStatus(status, range.from(), range.to(), pageable)
+                .map(OrderService::mapToResponseDTO);
     }
 
     @Transactional(readOnly = true)
-    public Page<OrderResponseDTO> findByStatus(OrderStatus status, Pageable pageable) {
-        return orderRepository.findByStatus(status, pageable)
-                .map(this::mapToResponseDTO);
+    public SliceResponseDTO<OrderResponseDTO> findAllSlice(CreatedRange range, Pageable pageable, CountMode countMode) {
+        Slice<OrderResponseDTO> slice = orderRepository.findSliceWithDetails(range.from(), range.to(), pageable)
+                .map(OrderService::mapToResponseDTO);
+        return SliceResponseDTO.of(slice, countAll(range, countMode));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<OrderResponseDTO> findByCustomerIdSlice(Long customerId, CreatedRange range, Pageable pageable,
+                                                                    CountMode countMode) {
+        Slice<OrderResponseDTO> slice = orderRepository.findSliceWithDetailsByCustomerId(
+                        customerId, range.from(), range.to(), pageable)
+                .map(OrderService::mapToResponseDTO);
+        return SliceResponseDTO.of(slice, countByCustomerId(customerId, range, countMode));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<OrderResponseDTO> findByStatusSlice(OrderStatus status, CreatedRange range, Pageable pageable,
+                                                                CountMode countMode) {
+        Slice<OrderResponseDTO> slice = orderRepository.findSliceWithDetailsByStatus(
+                        status, range.from(), range.to(), pageable)
+                .map(OrderService::mapToResponseDTO);
+        return SliceResponseDTO.of(slice, countByStatus(status, range, countMode));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderResponseDTO> findAllAfter(CreatedRange range, String after, int limit) {
+        KeysetCursor cursor = decodeCursor(after, limit);
+        return toCursorPage(orderRepository.findIdsAfter(range.from(), range.to(),
+                cursor.timestampKey(), cursor.id(), PageRequest.of(0, limit + 1)), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderResponseDTO> findByCustomerIdAfter(Long customerId, CreatedRange range,
+                                                                         String after, int limit) {
+        KeysetCursor cursor = decodeCursor(after, limit);
+        return toCursorPage(orderRepository.findIdsByCustomerIdAfter(customerId, range.from(), range.to(),
+                cursor.timestampKey(), cursor.id(), PageRequest.of(0, limit + 1)), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderResponseDTO> findByStatusAfter(OrderStatus status, CreatedRange range,
+                                                                     String after, int limit) {
+        KeysetCursor cursor = decodeCursor(after, limit);
+        return toCursorPage(orderRepository.findIdsByStatusAfter(status, range.from(), range.to(),
+                cursor.timestampKey(), cursor.id(), PageRequest.of(0, limit + 1)), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryDTO> findAllSummaries(CreatedRange range, Pageable pageable) {
+        return orderRepository.withSummaries(orderRepository.findIds(range.from(), range.to(), pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryDTO> findSummariesByCustomerId(Long customerId, CreatedRange range, Pageable pageable) {
+        return orderRepository.withSummaries(
+                orderRepository.findIdsByCustomerId(customerId, range.from(), range.to(), pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryDTO> findSummariesByStatus(OrderStatus status, CreatedRange range, Pageable pageable) {
+        return orderRepository.withSummaries(
+                orderRepository.findIdsByStatus(status, range.from(), range.to(), pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<OrderSummaryDTO> findAllSummariesSlice(CreatedRange range, Pageable pageable,
+                                                                  CountMode countMode) {
+        Slice<OrderSummaryDTO> slice = orderRepository.withSummaries(
+                orderRepository.findIdSlice(range.from(), range.to(), pageable));
+        return SliceResponseDTO.of(slice, countAll(range, countMode));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<OrderSummaryDTO> findSummariesByCustomerIdSlice(Long customerId, CreatedRange range,
+                                                                           Pageable pageable, CountMode countMode) {
+        Slice<OrderSummaryDTO> slice = orderRepository.withSummaries(
+                orderRepository.findIdSliceByCustomerId(customerId, range.from(), range.to(), pageable));
+        return SliceResponseDTO.of(slice, countByCustomerId(customerId, range, countMode));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<OrderSummaryDTO> findSummariesByStatusSlice(OrderStatus status, CreatedRange range,
+                                                                       Pageable pageable, CountMode countMode) {
+        Slice<OrderSummaryDTO> slice = orderRepository.withSummaries(
+                orderRepository.findIdSliceByStatus(status, range.from(), range.to(), pageable));
+        return SliceResponseDTO.of(slice, countByStatus(status, range, countMode));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderSummaryDTO> findAllSummariesAfter(CreatedRange range, String after, int limit) {
+        KeysetCursor cursor = decodeCursor(after, limit);
+        return toSummaryCursorPage(orderRepository.findIdsAfter(range.from(), range.to(),
+                cursor.timestampKey(), cursor.id(), PageRequest.of(0, limit + 1)), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderSummaryDTO> findSummariesByCustomerIdAfter(Long customerId, CreatedRange range,
+                                                                                 String after, int limit) {
+        KeysetCursor cursor = decodeCursor(after, limit);
+        return toSummaryCursorPage(orderRepository.findIdsByCustomerIdAfter(customerId, range.from(), range.to(),
+                cursor.timestampKey(), cursor.id(), PageRequest.of(0, limit + 1)), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderSummaryDTO> findSummariesByStatusAfter(OrderStatus status, CreatedRange range,
+                                                                             String after, int limit) {
+        KeysetCursor cursor = decodeCursor(after, limit);
+        return toSummaryCursorPage(orderRepository.findIdsByStatusAfter(status, range.from(), range.to(),
+                cursor.timestampKey(), cursor.id(), PageRequest.of(0, limit + 1)), limit);
     }
 
     @Transactional
     public OrderResponseDTO updateStatus(Long id, OrderStatus newStatus) {
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Order", id));
+        return updateStatus(id, newStatus, null).order();
+    }
+
+    /**
+     * Changes the status and returns the order as it is after the change, tagged from the rows
+     * the response is built from in the same transaction.
+     */
+    @Transactional
+    public TaggedOrder updateStatus(Long id, OrderStatus newStatus, String ifMatch) {
+        changeStatus(id, newStatus, ifMatch);
+        Order order = orderRepository.findWithDetailsInIdOrder(List.of(id)).get(0);
+        return new TaggedOrder(mapToResponseDTO(order), EntityTags.order(order));
+    }
+
+    /**
+     * Same as {@link #changeStatus(Long, OrderStatus, String)}, returning the order's ETag after
+     * the change. It is read in the same transaction, while the UPDATE still holds the order's
+     * row, so no other change can slip in between.
+     */
+    @Transactional
+    public String changeStatusTagged(Long id, OrderStatus newStatus, String ifMatch) {
+        changeStatus(id, newStatus, ifMatch);
+        return findETag(id);
+    }
+
+    /**
+     * Moves the order to {@code newStatus} with a compare-and-set UPDATE on the status that was
+     * just validated, so a concurrent change makes the UPDATE match no row instead of being
+     * overwritten. The status is then re-read and the transition re-validated.
+     */
+    @Transactional
+    public void changeStatus(Long id, OrderStatus newStatus) {
+        for (int attempt = 1; ; attempt++) {
+            OrderStatusSnapshot current = findStatusSnapshot(id);
+            validateStatusTransition(current.status(), newStatus);
 
-        validateStatusTransition(order.getStatus(), newStatus);
-        order.setStatus(newStatus);
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            if (orderRepository.updateStatusIfCurrent(id, current.status(), newStatus, now) == 1) {
+                orderStatsService.recordStatusChange(current, newStatus);
+                outboxService.recordStatusChange(current, newStatus);
+                businessMetrics.statusTransition(current.status(), newStatus);
+                return;
+            }
 
-        Order updated = orderRepository.save(order);
-        return mapToResponseDTO(updated);
+            if (attempt == MAX_STATUS_UPDATE_ATTEMPTS) {
+                businessMetrics.rejection("concurrent_status_update");
+                throw new BusinessException("Order status is being changed concurrently, please retry");
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #changeStatus(Long, OrderStatus)}, but only if the order still has the tag in
+     * {@code ifMatch}. The UPDATE is conditioned on the version that tag was checked against, so
+     * a change in between fails the precondition instead of being overwritten.
+     */
+    @Transactional
+    public void changeStatus(Long id, OrderStatus newStatus, String ifMatch) {
+        if (ifMatch == null) {
+            changeStatus(id, newStatus);
+            return;
+        }
+
+        OrderVersionStamp stamp = findVersionStamp(id);
+        if (!EntityTags.matches(ifMatch, EntityTags.order(stamp))) {
+            throw new PreconditionFailedException("Order has been modified");
+        }
+        OrderStatusSnapshot current = findStatusSnapshot(id);
+        validateStatusTransition(current.status(), newStatus);
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (orderRepository.updateStatusIfVersion(id, current.status(), stamp.version(), newStatus, now) != 1) {
+            throw new PreconditionFailedException("Order has been modified");
+        }
+        orderStatsService.recordStatusChange(current, newStatus);
+        outboxService.recordStatusChange(current, newStatus);
+        businessMetrics.statusTransition(current.status(), newStatus);
+    }
+
+    /**
+     * Moves orders whose rows the caller already holds locked, so the statuses in {@code locked}
+     * are still current. Every order is checked against the transition rules before one UPDATE
+     * moves them all; a single violation fails the call. Returns the orders as they are now.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OrderStatusSnapshot> changeStatusOfLocked(List<OrderStatusSnapshot> locked, OrderStatus newStatus) {
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        for (OrderStatusSnapshot order : locked) {
+            validateStatusTransition(order.status(), newStatus);
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        orderStatusBulkRepository.updateStatus(locked.stream().map(OrderStatusSnapshot::id).toList(), newStatus, now);
+        orderStatsService.recordStatusChanges(locked, newStatus);
+        outboxService.recordStatusChanges(locked, newStatus);
+        locked.stream()
+                .collect(Collectors.groupingBy(OrderStatusSnapshot::status, Collectors.counting()))
+                .forEach((source, count) -> businessMetrics.statusTransitions(source, newStatus, count));
+
+        return locked.stream()
+                .map(order -> new OrderStatusSnapshot(order.id(), newStatus, order.createdAt(), order.totalAmount()))
+                .toList();
     }
 
     @Transactional
     public void delete(Long id) {
-        if (!orderRepository.existsById(id)) {
+        boolean archived = !orderRepository.existsById(id);
+        if (archived && !orderArchiveRepository.existsById(id)) {
             throw new ResourceNotFoundException("Order", id);
         }
-        orderRepository.deleteById(id);
+        orderStatsService.recordOrderDeleted(id);
+        outboxService.recordOrderDeleted(id);
+        if (archived) {
+            orderArchiveRepository.deleteById(id);
+        } else {
+            orderRepository.deleteById(id);
+        }
+    }
+
+    private OrderVersionStamp findVersionStamp(Long id) {
+        return orderRepository.findVersionStampById(id)
+                .or(() -> orderArchiveRepository.findVersionStampById(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Order", id));
+    }
+
+    /**
+     * Archived orders are all COMPLETED, so finding one here makes the transition check reject
+     * the change as it would for a live completed order, instead of reporting it missing.
+     */
+    private OrderStatusSnapshot findStatusSnapshot(Long id) {
+        return orderRepository.findStatusSnapshotById(id)
+                .or(() -> orderArchiveRepository.findStatusSnapshotById(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Order", id));
     }
 
     private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
-        if (currentStatus == OrderStatus.COMPLETED) {
-            throw new BusinessException("Cannot change status of completed order");
+        validateStatusTransition(businessMetrics, currentStatus, newStatus);
+    }
+
+    static void validateStatusTransition(BusinessMetrics businessMetrics, OrderStatus currentStatus,
+                                         OrderStatus newStatus) {
+        StatusRule violated = violatedStatusRule(currentStatus, newStatus);
+        if (violated != null) {
+            businessMetrics.rejection(violated.metricName);
+            throw new BusinessException(violated.message);
         }
+    }
 
+    /**
+     * Statuses an order may move to {@code newStatus} from, excluding {@code newStatus} itself.
+     * Set-based updates use this as their SQL predicate so they enforce the same rules.
+     */
+    static Set<OrderStatus> predecessorsOf(OrderStatus newStatus) {
+        Set<OrderStatus> predecessors = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus candidate : OrderStatus.values()) {
+            if (candidate != newStatus && violatedStatusRule(candidate, newStatus) == null) {
+                predecessors.add(candidate);
+            }
+        }
+        return predecessors;
+    }
+
+    private static StatusRule violatedStatusRule(OrderStatus currentStatus, OrderStatus newStatus) {
+        if (currentStatus == OrderStatus.COMPLETED) {
+            return StatusRule.COMPLETED_IMMUTABLE;
+        }
         if (currentStatus == OrderStatus.CREATED && newStatus == OrderStatus.COMPLETED) {
-            throw new BusinessException("Order must be in PROCESSING status before completion");
+            return StatusRule.PROCESSING_REQUIRED;
         }
+        return null;
+    }
+
+    private enum StatusRule {
+        COMPLETED_IMMUTABLE("completed_order_immutable", "Cannot change status of completed order"),
+        PROCESSING_REQUIRED("processing_required_before_completion", "Order must be in PROCESSING status before completion");
+
+        private final String metricName;
+        private final String message;
+
+        StatusRule(String metricName, String message) {
+            this.metricName = metricName;
+            this.message = message;
+        }
+    }
+
+    private KeysetCursor decodeCursor(String after, int limit) {
+        KeysetCursor.validateLimit(limit);
+        return after != null ? KeysetCursor.decode(after) : KeysetCursor.of(KeysetCursor.MIN_TIMESTAMP, 0);
+    }
+
+    private Long countAll(CreatedRange range, CountMode countMode) {
+        if (!range.isUnbounded()) {
+            LongSupplier exactCount = () -> orderRepository.countCreatedBetween(range.from(), range.to());
+            return countMode.total(
+                    () -> rowCountEstimator.cachedCount("orders:created:" + range.cacheKey(), exactCount),
+                    exactCount);
+        }
+        return countMode.total(
+                () -> rowCountEstimator.estimateTableRows("orders", orderRepository::count),
+                orderRepository::count);
+    }
+
+    private Long countByCustomerId(Long customerId, CreatedRange range, CountMode countMode) {
+        LongSupplier exactCount = range.isUnbounded()
+                ? () -> orderRepository.countByCustomerId(customerId)
+                : () -> orderRepository.countByCustomerIdCreatedBetween(customerId, range.from(), range.to());
+        String key = range.isUnbounded() ? "" : ":created:" + range.cacheKey();
+        return countMode.total(
+                () -> rowCountEstimator.cachedCount("orders:customer:" + customerId + key, exactCount),
+                exactCount);
     }
 
-    private OrderResponseDTO mapToResponseDTO(Order order) {
+    private Long countByStatus(OrderStatus status, CreatedRange range, CountMode countMode) {
+        LongSupplier exactCount = range.isUnbounded()
+                ? () -> orderRepository.countByStatus(status)
+                : () -> orderRepository.countByStatusCreatedBetween(status, range.from(), range.to());
+        String key = range.isUnbounded() ? "" : ":created:" + range.cacheKey();
+        return countMode.total(
+                () -> rowCountEstimator.cachedCount("orders:status:" + status + key, exactCount),
+                exactCount);
+    }
+
+    private CursorPageResponseDTO<OrderResponseDTO> toCursorPage(List<Long> ids, int limit) {
+        return toCursorPage(ids, limit,
+                page -> orderRepository.findWithDetailsInIdOrder(page).stream()
+                        .map(OrderService::mapToResponseDTO)
+                        .toList(),
+                order -> KeysetCursor.of(order.getCreatedAt(), order.getId()));
+    }
+
+    private CursorPageResponseDTO<OrderSummaryDTO> toSummaryCursorPage(List<Long> ids, int limit) {
+        return toCursorPage(ids, limit, orderRepository::findSummariesInIdOrder,
+                summary -> KeysetCursor.of(summary.getCreatedAt(), summary.getId()));
+    }
+
+    /**
+     * Builds a keyset page from {@code limit + 1} ids; the extra id only signals that another
+     * page exists. {@code loader} fetches the rows for the remaining ids in order.
+     */
+    private <T> CursorPageResponseDTO<T> toCursorPage(List<Long> ids, int limit, Function<List<Long>, List<T>> loader,
+                                                      Function<T, KeysetCursor> cursorOf) {
+        boolean hasNext = ids.size() > limit;
+        List<T> content = loader.apply(hasNext ? ids.subList(0, limit) : ids);
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = cursorOf.apply(content.get(content.size() - 1)).encode();
+        }
+
+        return CursorPageResponseDTO.<T>builder()
+                .content(content)
+                .limit(limit)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    static Order buildOrder(Customer customer, OrderRequestDTO request) {
+        Order order = Order.builder()
+                .customer(customer)
+                .status(OrderStatus.CREATED)
+                .totalAmount(BigDecimal.ZERO)
+                .build();
+
+        for (OrderItemRequestDTO itemDTO : request.getItems()) {
+            OrderItem item = OrderItem.builder()
+                    .productName(itemDTO.getProductName())
+                    .quantity(itemDTO.getQuantity())
+                    .unitPrice(itemDTO.getUnitPrice())
+                    .build();
+            item.calculateSubtotal();
+            order.addItem(item);
+        }
+
+        order.calculateTotalAmount();
+        return order;
+    }
+
+    static OrderResponseDTO mapToResponseDTO(Order order) {
+        return mapToResponseDTO(order, order.getCustomer().getName());
+    }
+
+    static OrderResponseDTO mapToResponseDTO(Order order, String customerName) {
         List<OrderItemResponseDTO> itemDTOs = order.getItems().stream()
                 .map(item -> OrderItemResponseDTO.builder()
                         .id(item.getId())
@@ -124,7 +584,7 @@ public class OrderService {
         return OrderResponseDTO.builder()
                 .id(order.getId())
                 .customerId(order.getCustomer().getId())
-                .customerName(order.getCustomer().getName())
+                .customerName(customerName)
                 .items(itemDTOs)
                 .totalAmount(order.getTotalAmount())
                 .status(order.getStatus())
@@ -132,4 +592,27 @@ public class OrderService {
                 .updatedAt(order.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    static OrderResponseDTO mapToResponseDTO(ArchivedOrder order) {
+        List<OrderItemResponseDTO> itemDTOs = order.items().stream()
+                .map(item -> OrderItemResponseDTO.builder()
+                        .id(item.id())
+                        .productName(item.productName())
+                        .quantity(item.quantity())
+                        .unitPrice(item.unitPrice())
+                        .subtotal(item.subtotal())
+                        .build())
+                .collect(Collectors.toList());
+
+        return OrderResponseDTO.builder()
+                .id(order.id())
+                .customerId(order.customerId())
+                .customerName(order.customerName())
+                .items(itemDTOs)
+                .totalAmount(order.totalAmount())
+                .status(order.status())
+                .createdAt(order.createdAt())
+                .updatedAt(order.updatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.model.dto.OrderDailyStatsDTO;
+import com.orderflow.api.model.dto.OrderStatsResponseDTO;
+import com.orderflow.api.model.dto.OrderStatusStatsDTO;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.OrderStatsRepository;
+import com.orderflow.api.repository.OrderStatsRepository.Delta;
+import com.orderflow.api.repository.OrderStatsRepository.StatusTotal;
+import com.orderflow.api.repository.OrderStatusSnapshot;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+
+    private static final long MAX_DAILY_RANGE_DAYS = 366;
+
+    private final OrderStatsRepository orderStatsRepository;
+    private final EntityManager entityManager;
+
+    @Value("${orderflow.stats.slots:8}")
+    private int slots;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Order> orders) {
+        Map<LocalDate, List<Order>> byDay = orders.stream()
+                .collect(Collectors.groupingBy(order -> order.getCreatedAt().toLocalDate()));
+        orderStatsRepository.apply(slot(), byDay.entrySet().stream()
+                .map(day -> new Delta(day.getKey(), OrderStatus.CREATED, day.getValue().size(), day.getValue().stream()
+                        .map(Order::getTotalAmount)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add)))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(OrderStatusSnapshot previous, OrderStatus newStatus) {
+        recordStatusChanges(List.of(previous), newStatus);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(Collection<OrderStatusSnapshot> previous, OrderStatus newStatus) {
+        Map<DayAndStatus, List<OrderStatusSnapshot>> groups = previous.stream()
+                .filter(order -> order.status() != newStatus)
+                .collect(Collectors.groupingBy(order -> new DayAndStatus(order.createdAt().toLocalDate(), order.status())));
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        List<Delta> deltas = new ArrayList<>(groups.size() * 2);
+        groups.forEach((group, orders) -> {
+            BigDecimal amount = orders.stream()
+                    .map(OrderStatusSnapshot::totalAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            deltas.add(new Delta(group.day(), group.status(), -orders.size(), amount.negate()));
+            deltas.add(new Delta(group.day(), newStatus, orders.size(), amount));
+        });
+        orderStatsRepository.apply(slot(), merge(deltas));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrderDeleted(Long orderId) {
+        entityManager.flush();
+        subtract(orderStatsRepository.summarizeOrder(orderId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCustomerOrdersDeleted(Long customerId) {
+        entityManager.flush();
+        subtract(orderStatsRepository.summarizeCustomerOrders(customerId));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderStatsResponseDTO getStats(LocalDate from, LocalDate to) {
+        Map<OrderStatus, OrderStatusStatsDTO> byStatus = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new OrderStatusStatsDTO(status, 0, BigDecimal.ZERO));
+        }
+        for (StatusTotal total : orderStatsRepository.findTotalsByStatus()) {
+            byStatus.put(total.status(), new OrderStatusStatsDTO(total.status(), total.count(), total.amount()));
+        }
+
+        List<OrderDailyStatsDTO> daily = null;
+        if (from != null || to != null) {
+            if (from == null || to == null) {
+                throw new BusinessException("Both from and to are required for daily stats");
+            }
+            if (from.isAfter(to)) {
+                throw new BusinessException("from must not be after to");
+            }
+            if (ChronoUnit.DAYS.between(from, to) >= MAX_DAILY_RANGE_DAYS) {
+                throw new BusinessException("Daily stats range cannot exceed " + MAX_DAILY_RANGE_DAYS + " days");
+            }
+            daily = orderStatsRepository.findDailyTotals(from, to).stream()
+                    .map(row -> new OrderDailyStatsDTO(row.day(), row.status(), row.count(), row.amount()))
+                    .toList();
+        }
+
+        return OrderStatsResponseDTO.builder()
+                .byStatus(List.copyOf(byStatus.values()))
+                .daily(daily)
+                .build();
+    }
+
+    @Transactional
+    @Scheduled(cron = "${orderflow.stats.rebuild-cron:-}")
+    public void rebuild() {
+        entityManager.flush();
+        orderStatsRepository.rebuild();
+    }
+
+    private void subtract(List<Delta> deltas) {
+        if (!deltas.isEmpty()) {
+            orderStatsRepository.apply(slot(), deltas.stream().map(Delta::negate).toList());
+        }
+    }
+
+    private List<Delta> merge(List<Delta> deltas) {
+        Map<DayAndStatus, Delta> merged = new HashMap<>();
+        for (Delta delta : deltas) {
+            merged.merge(new DayAndStatus(delta.day(), delta.status()), delta, (a, b) ->
+                    new Delta(a.day(), a.status(), a.count() + b.count(), a.amount().add(b.amount())));
+        }
+        return List.copyOf(merged.values());
+    }
+
+    private int slot() {
+        return slots > 1 ? ThreadLocalRandom.current().nextInt(slots) : 0;
+    }
+
+    private record DayAndStatus(LocalDate day, OrderStatus status) {
+    }
+}
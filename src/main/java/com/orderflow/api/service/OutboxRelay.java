@@ -0,0 +1,112 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.repository.OutboxMessage;
+import com.orderflow.api.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Moves outbox rows to the {@link OutboxSink}. Each worker claims a batch, publishes it and
+ * deletes it in one transaction, and keeps going until a batch comes back short. With more than
+ * one worker (or instance) batches are published concurrently, so consumers that care about
+ * order should sort by message id.
+ */
+@Component
+public class OutboxRelay {
+
+    public static final String PUBLISHED = "orderflow.outbox.published";
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter published;
+
+    @Value("${orderflow.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${orderflow.outbox.parallelism:1}")
+    private int parallelism;
+
+    @Value("${orderflow.outbox.relay-enabled:true}")
+    private boolean enabled;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxSink sink, TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.published = Counter.builder(PUBLISHED)
+                .description("Outbox messages handed to the sink")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${orderflow.outbox.poll-interval:PT1S}")
+    public void poll() {
+        if (enabled) {
+            relayPending(parallelism);
+        }
+    }
+
+    public long relayPending() {
+        return relayPending(parallelism);
+    }
+
+    public long relayPending(int workers) {
+        if (workers <= 1) {
+            return drain();
+        }
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("outbox-relay-", 0).factory())) {
+            long total = 0;
+            for (Future<Long> result : executor.invokeAll(Collections.nCopies(workers, (Callable<Long>) this::drain))) {
+                total += result.get();
+            }
+            return total;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private long drain() {
+        long total = 0;
+        int relayed;
+        do {
+            relayed = relayBatch();
+            total += relayed;
+        } while (relayed == batchSize);
+        return total;
+    }
+
+    private int relayBatch() {
+        Integer relayed = transactionTemplate.execute(tx -> {
+            List<OutboxMessage> batch = outboxRepository.claimBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            sink.publish(batch);
+            outboxRepository.deleteByIds(batch.stream().map(OutboxMessage::id).toList());
+            return batch.size();
+        });
+        published.increment(relayed);
+        return relayed;
+    }
+}
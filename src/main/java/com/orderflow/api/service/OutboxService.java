@@ -0,0 +1,119 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.model.dto.OrderEventDTO;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderEventType;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.OrderArchiveRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.repository.OrderStatusSnapshot;
+import com.orderflow.api.repository.OutboxMessage;
+import com.orderflow.api.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Appends order events to the outbox inside the caller's transaction, so an event exists if and
+ * only if the change it describes was committed. {@link OutboxRelay} publishes them later; the
+ * same events are also raised as {@link OrderEventsRecorded} for in-process listeners.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String ORDER_AGGREGATE = "Order";
+
+    private final OutboxRepository outboxRepository;
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Order> orders) {
+        append(orders.stream()
+                .map(order -> OrderEventDTO.builder()
+                        .type(OrderEventType.ORDER_CREATED)
+                        .orderId(order.getId())
+                        .customerId(order.getCustomer().getId())
+                        .status(order.getStatus())
+                        .totalAmount(order.getTotalAmount())
+                        .occurredAt(order.getCreatedAt())
+                        .build())
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(OrderStatusSnapshot previous, OrderStatus newStatus) {
+        recordStatusChanges(List.of(previous), newStatus);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(Collection<OrderStatusSnapshot> previous, OrderStatus newStatus) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        append(previous.stream()
+                .filter(order -> order.status() != newStatus)
+                .map(order -> OrderEventDTO.builder()
+                        .type(OrderEventType.ORDER_STATUS_CHANGED)
+                        .orderId(order.id())
+                        .status(newStatus)
+                        .previousStatus(order.status())
+                        .totalAmount(order.totalAmount())
+                        .occurredAt(now)
+                        .build())
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrderDeleted(Long orderId) {
+        append(List.of(deleted(orderId, null)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCustomerOrdersDeleted(Long customerId) {
+        Stream<Long> live = orderRepository.findStatusSnapshotsByCustomerId(customerId).stream()
+                .map(OrderStatusSnapshot::id);
+        append(Stream.concat(live, orderArchiveRepository.findIdsByCustomerId(customerId).stream())
+                .map(orderId -> deleted(orderId, customerId))
+                .toList());
+    }
+
+    private OrderEventDTO deleted(Long orderId, Long customerId) {
+        return OrderEventDTO.builder()
+                .type(OrderEventType.ORDER_DELETED)
+                .orderId(orderId)
+                .customerId(customerId)
+                .occurredAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+
+    private void append(List<OrderEventDTO> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new OrderEventsRecorded(events));
+        outboxRepository.insertAll(events.stream()
+                .map(event -> new OutboxMessage(null, ORDER_AGGREGATE, event.getOrderId(), event.getType().name(),
+                        toJson(event), event.getOccurredAt()))
+                .toList());
+    }
+
+    private String toJson(OrderEventDTO event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize order event", ex);
+        }
+    }
+}
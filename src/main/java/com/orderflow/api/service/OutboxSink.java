@@ -0,0 +1,15 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.repository.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox messages. {@link #publish} is called inside the transaction that
+ * holds the claimed rows; if it throws, the rows stay in the outbox and are retried, so delivery
+ * is at least once and consumers should deduplicate on {@link OutboxMessage#id()}.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,284 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.config.OrderShards;
+import com.orderflow.api.config.OrderShards.Shard;
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.exception.ConflictException;
+import com.orderflow.api.exception.ResourceNotFoundException;
+import com.orderflow.api.model.dto.CustomerResponseDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderItem;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.ShardedOrderRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Order operations in sharded mode. Everything keyed by customer goes to that customer's shard;
+ * lookups by order id ask every shard at once, and listings across customers read the first
+ * {@code offset + size} rows of each shard in parallel and merge them on {@code (createdAt, id)}.
+ */
+@Service
+@ConditionalOnProperty(name = "orderflow.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Timed(value = "orderflow.service", histogram = true)
+public class ShardedOrderService {
+
+    /**
+     * Deepest row a cross-shard page may reach. Every shard returns that many rows for the merge,
+     * so deep pages cost N times what they cost unsharded.
+     */
+    static final int MAX_MERGE_WINDOW = 10_000;
+
+    private static final int MAX_STATUS_UPDATE_ATTEMPTS = 5;
+
+    private static final Comparator<Order> CREATED_AT_ASC =
+            Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId);
+
+    private final OrderShards orderShards;
+    private final ShardedOrderRepository shardedOrderRepository;
+    private final OrderIdGenerator orderIdGenerator;
+    private final CustomerService customerService;
+    private final CustomerRepository customerRepository;
+    private final BusinessMetrics businessMetrics;
+
+    public OrderResponseDTO create(OrderRequestDTO request) {
+        CustomerResponseDTO customer = customerService.findById(request.getCustomerId());
+
+        Order order = OrderService.buildOrder(Customer.builder().id(customer.getId()).build(), request);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        order.setId(orderIdGenerator.nextId());
+        order.setCreatedAt(now);
+        order.setUpdatedAt(now);
+        order.setVersion(0L);
+        for (OrderItem item : order.getItems()) {
+            item.setId(orderIdGenerator.nextId());
+            item.setOrderCreatedAt(now);
+        }
+
+        Shard shard = orderShards.forCustomer(customer.getId());
+        shard.transactionTemplate().executeWithoutResult(status -> shardedOrderRepository.insert(shard, order));
+        return OrderService.mapToResponseDTO(order, customer.getName());
+    }
+
+    public OrderResponseDTO findById(Long id) {
+        return toResponses(List.of(locate(id).order())).get(0);
+    }
+
+    public Page<OrderResponseDTO> findAll(CreatedRange range, Pageable pageable) {
+        return findAcrossShards(null, range, pageable);
+    }
+
+    public Page<OrderResponseDTO> findByStatus(OrderStatus status, CreatedRange range, Pageable pageable) {
+        return findAcrossShards(status, range, pageable);
+    }
+
+    public Page<OrderResponseDTO> findByCustomerId(Long customerId, CreatedRange range, Pageable pageable) {
+        customerService.findById(customerId);
+        boolean ascending = isAscending(pageable.getSort());
+        Shard shard = orderShards.forCustomer(customerId);
+
+        List<Order> orders = shardedOrderRepository.findPage(shard, customerId, null, range.from(), range.to(),
+                ascending, pageable.getOffset(), pageable.getPageSize());
+        attachItems(shard, orders);
+        long total = shardedOrderRepository.count(shard, customerId, null, range.from(), range.to());
+        return new PageImpl<>(toResponses(orders), pageable, total);
+    }
+
+    /**
+     * Changes the status with a compare-and-set on the current one, retrying if another request
+     * moved the order in between so the transition rules are checked against what is stored.
+     */
+    public OrderResponseDTO updateStatus(Long id, OrderStatus newStatus) {
+        for (int attempt = 0; attempt < MAX_STATUS_UPDATE_ATTEMPTS; attempt++) {
+            Located located = locate(id);
+            OrderStatus currentStatus = located.order().getStatus();
+            OrderService.validateStatusTransition(businessMetrics, currentStatus, newStatus);
+
+            Shard shard = located.shard();
+            boolean updated = Boolean.TRUE.equals(shard.transactionTemplate().execute(status ->
+                    shardedOrderRepository.updateStatusIfCurrent(shard, id, currentStatus, newStatus,
+                            LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))));
+            if (updated) {
+                businessMetrics.statusTransition(currentStatus, newStatus);
+                return findById(id);
+            }
+        }
+        throw new ConflictException("Order " + id + " kept changing while its status was being updated");
+    }
+
+    public void delete(Long id) {
+        Located located = locate(id);
+        located.shard().transactionTemplate().executeWithoutResult(status ->
+                shardedOrderRepository.deleteById(located.shard(), id));
+    }
+
+    /**
+     * Deletes every order of the customer, which all sit on the customer's shard. Called when the
+     * customer is deleted, since the primary's cascade cannot reach them.
+     */
+    public int deleteByCustomerId(Long customerId) {
+        Shard shard = orderShards.forCustomer(customerId);
+        Integer deleted = shard.transactionTemplate().execute(status ->
+                shardedOrderRepository.deleteByCustomerId(shard, customerId));
+        return deleted != null ? deleted : 0;
+    }
+
+    private Page<OrderResponseDTO> findAcrossShards(OrderStatus status, CreatedRange range, Pageable pageable) {
+        boolean ascending = isAscending(pageable.getSort());
+        long window = pageable.getOffset() + pageable.getPageSize();
+        if (window > MAX_MERGE_WINDOW) {
+            throw new BusinessException("Pages past row " + MAX_MERGE_WINDOW
+                    + " are not available across shards; narrow the list with createdFrom/createdTo");
+        }
+
+        List<ShardPage> pages = onEveryShard(shard -> new ShardPage(shard,
+                shardedOrderRepository.findPage(shard, null, status, range.from(), range.to(), ascending, 0, (int) window),
+                shardedOrderRepository.count(shard, null, status, range.from(), range.to())));
+
+        List<Placed> merged = merge(pages, ascending ? CREATED_AT_ASC : CREATED_AT_ASC.reversed(),
+                pageable.getOffset(), pageable.getPageSize());
+        Map<Shard, List<Order>> byShard = merged.stream().collect(Collectors.groupingBy(Placed::shard,
+                Collectors.mapping(Placed::order, Collectors.toList())));
+        onEveryShard(shard -> {
+            attachItems(shard, byShard.getOrDefault(shard, List.of()));
+            return shard;
+        });
+
+        long total = pages.stream().mapToLong(ShardPage::total).sum();
+        return new PageImpl<>(toResponses(merged.stream().map(Placed::order).toList()), pageable, total);
+    }
+
+    /**
+     * K-way merge of per-shard lists that are each already sorted by {@code order}, keeping
+     * {@code limit} rows after skipping {@code offset}.
+     */
+    static List<Placed> merge(List<ShardPage> pages, Comparator<Order> order, long offset, int limit) {
+        record Cursor(ShardPage page, int position) {
+            Order head() {
+                return page.orders().get(position);
+            }
+        }
+
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Comparator.comparing(Cursor::head, order));
+        for (ShardPage page : pages) {
+            if (!page.orders().isEmpty()) {
+                heads.add(new Cursor(page, 0));
+            }
+        }
+
+        List<Placed> result = new ArrayList<>(limit);
+        long skipped = 0;
+        while (!heads.isEmpty() && result.size() < limit) {
+            Cursor cursor = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(new Placed(cursor.page().shard(), cursor.head()));
+            }
+            if (cursor.position() + 1 < cursor.page().orders().size()) {
+                heads.add(new Cursor(cursor.page(), cursor.position() + 1));
+            }
+        }
+        return result;
+    }
+
+    private Located locate(Long id) {
+        return onEveryShard(shard -> shardedOrderRepository.findById(shard, id).map(order -> new Located(shard, order)))
+                .stream()
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Order", id));
+    }
+
+    private void attachItems(Shard shard, List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Map<Long, List<OrderItem>> items = shardedOrderRepository.findItems(shard,
+                orders.stream().map(Order::getId).toList());
+        for (Order order : orders) {
+            order.getItems().addAll(items.getOrDefault(order.getId(), List.of()));
+        }
+    }
+
+    private List<OrderResponseDTO> toResponses(List<Order> orders) {
+        List<Long> customerIds = orders.stream().map(order -> order.getCustomer().getId()).distinct().toList();
+        Map<Long, String> names = customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getId, Customer::getName));
+        return orders.stream()
+                .map(order -> OrderService.mapToResponseDTO(order, names.get(order.getCustomer().getId())))
+                .toList();
+    }
+
+    private <T> List<T> onEveryShard(Function<Shard, T> query) {
+        List<Shard> shards = orderShards.all();
+        if (shards.size() == 1) {
+            return List.of(query.apply(shards.get(0)));
+        }
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("order-shard-", 0).factory())) {
+            List<Callable<T>> tasks = shards.stream().map(shard -> (Callable<T>) () -> query.apply(shard)).toList();
+            List<T> results = new ArrayList<>(shards.size());
+            for (Future<T> result : executor.invokeAll(tasks)) {
+                results.add(result.get());
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static boolean isAscending(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Sort.Order createdAt = sort.getOrderFor("createdAt");
+        if (createdAt == null || sort.stream().count() > 1) {
+            throw new BusinessException("Sharded order lists can only be sorted by createdAt");
+        }
+        return createdAt.isAscending();
+    }
+
+    record ShardPage(Shard shard, List<Order> orders, long total) {
+    }
+
+    record Placed(Shard shard, Order order) {
+    }
+
+    private record Located(Shard shard, Order order) {
+    }
+}
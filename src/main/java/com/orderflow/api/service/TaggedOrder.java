@@ -0,0 +1,9 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.dto.OrderResponseDTO;
+
+/**
+ * An order representation together with the ETag of the state it was built from.
+ */
+public record TaggedOrder(OrderResponseDTO order, String eTag) {
+}
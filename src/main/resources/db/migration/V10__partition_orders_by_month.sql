@@ -0,0 +1,110 @@
+-- Rebuilds orders and order_items as tables range-partitioned by month of the order's created_at.
+-- Primary keys and the item -> order foreign key have to include the partition key, so items
+-- carry a copy of their order's created_at. Ids still come from orders_seq / order_items_seq.
+
+ALTER TABLE order_items ADD COLUMN order_created_at TIMESTAMP;
+
+UPDATE order_items i SET order_created_at = o.created_at FROM orders o WHERE o.id = i.order_id;
+
+CREATE TABLE orders_partitioned (
+    id BIGINT NOT NULL,
+    customer_id BIGINT NOT NULL,
+    total_amount NUMERIC(10,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_orders_partitioned PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_orders_partitioned_customer
+        FOREIGN KEY (customer_id) REFERENCES customers(id) ON DELETE RESTRICT,
+    CONSTRAINT chk_orders_partitioned_status
+        CHECK (status IN ('CREATED', 'PROCESSING', 'COMPLETED')),
+    CONSTRAINT chk_orders_partitioned_total_amount
+        CHECK (total_amount >= 0)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_items_partitioned (
+    id BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    order_created_at TIMESTAMP NOT NULL,
+    product_name VARCHAR(200) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(10,2) NOT NULL,
+    subtotal NUMERIC(10,2) NOT NULL,
+    CONSTRAINT pk_order_items_partitioned PRIMARY KEY (id, order_created_at),
+    CONSTRAINT chk_order_items_partitioned_quantity
+        CHECK (quantity > 0),
+    CONSTRAINT chk_order_items_partitioned_unit_price
+        CHECK (unit_price > 0),
+    CONSTRAINT chk_order_items_partitioned_subtotal
+        CHECK (subtotal >= 0)
+) PARTITION BY RANGE (order_created_at);
+
+-- Rows outside every monthly partition land here instead of failing the insert. Maintenance
+-- keeps months created ahead of time, so these should stay empty.
+CREATE TABLE orders_default PARTITION OF orders_partitioned DEFAULT;
+CREATE TABLE order_items_default PARTITION OF order_items_partitioned DEFAULT;
+
+-- Creates the monthly partitions of both tables for every month from first_month through
+-- last_month. Existing partitions are left alone, so it is safe to call repeatedly.
+CREATE FUNCTION create_order_partitions(first_month DATE, last_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', first_month)::DATE;
+    month_end DATE;
+    suffix TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        month_end := (month_start + INTERVAL '1 month')::DATE;
+        suffix := to_char(month_start, '"y"YYYY"m"MM');
+        IF to_regclass('orders_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                           'orders_' || suffix, month_start, month_end);
+            EXECUTE format('CREATE TABLE %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                           'order_items_' || suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+ALTER TABLE orders_partitioned RENAME TO orders;
+ALTER TABLE order_items_partitioned RENAME TO order_items;
+
+SELECT create_order_partitions(
+        COALESCE((SELECT MIN(created_at) FROM orders_unpartitioned), NOW())::DATE,
+        (NOW() + INTERVAL '3 months')::DATE);
+
+INSERT INTO orders (id, customer_id, total_amount, status, created_at, updated_at, version)
+SELECT id, customer_id, total_amount, status, created_at, updated_at, version FROM orders_unpartitioned;
+
+INSERT INTO order_items (id, order_id, order_created_at, product_name, quantity, unit_price, subtotal)
+SELECT id, order_id, order_created_at, product_name, quantity, unit_price, subtotal FROM order_items_unpartitioned;
+
+DROP TABLE order_items_unpartitioned;
+DROP TABLE orders_unpartitioned;
+
+ALTER TABLE order_items ADD CONSTRAINT fk_order_items_order
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders(id, created_at)
+    ON DELETE CASCADE;
+
+ALTER TABLE orders RENAME CONSTRAINT pk_orders_partitioned TO orders_pkey;
+ALTER TABLE orders RENAME CONSTRAINT fk_orders_partitioned_customer TO fk_orders_customer;
+ALTER TABLE orders RENAME CONSTRAINT chk_orders_partitioned_status TO chk_orders_status;
+ALTER TABLE orders RENAME CONSTRAINT chk_orders_partitioned_total_amount TO chk_orders_total_amount;
+ALTER TABLE order_items RENAME CONSTRAINT pk_order_items_partitioned TO order_items_pkey;
+ALTER TABLE order_items RENAME CONSTRAINT chk_order_items_partitioned_quantity TO chk_order_items_quantity;
+ALTER TABLE order_items RENAME CONSTRAINT chk_order_items_partitioned_unit_price TO chk_order_items_unit_price;
+ALTER TABLE order_items RENAME CONSTRAINT chk_order_items_partitioned_subtotal TO chk_order_items_subtotal;
+
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id);
+CREATE INDEX idx_orders_customer_id_created_at_id ON orders(customer_id, created_at, id);
+CREATE INDEX idx_orders_status_created_at_id ON orders(status, created_at, id);
+CREATE INDEX idx_order_items_order_id ON order_items(order_id);
+
+ANALYZE orders;
+ANALYZE order_items;
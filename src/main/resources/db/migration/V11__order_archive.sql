@@ -0,0 +1,29 @@
+-- Cold storage for completed orders moved out of orders/order_items by the archival job.
+-- Rows arrive here only once they can no longer change, so the tables carry just the
+-- indexes needed to look an order up by id or by customer.
+
+CREATE TABLE orders_archive (
+    id BIGINT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    total_amount NUMERIC(10,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_orders_archive_customer
+        FOREIGN KEY (customer_id) REFERENCES customers(id) ON DELETE RESTRICT
+);
+
+CREATE TABLE order_items_archive (
+    id BIGINT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    order_created_at TIMESTAMP NOT NULL,
+    product_name VARCHAR(200) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(10,2) NOT NULL,
+    subtotal NUMERIC(10,2) NOT NULL
+);
+
+CREATE INDEX idx_orders_archive_customer_id ON orders_archive(customer_id);
+CREATE INDEX idx_order_items_archive_order_id ON order_items_archive(order_id);
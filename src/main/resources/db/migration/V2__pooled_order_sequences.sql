@@ -0,0 +1,11 @@
+CREATE SEQUENCE orders_seq INCREMENT BY 50;
+CREATE SEQUENCE order_items_seq INCREMENT BY 50;
+
+SELECT setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders), 0) + 50);
+SELECT setval('order_items_seq', COALESCE((SELECT MAX(id) FROM order_items), 0) + 50);
+
+ALTER TABLE order_items ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE orders ALTER COLUMN id DROP DEFAULT;
+
+DROP SEQUENCE order_items_id_seq;
+DROP SEQUENCE orders_id_seq;
@@ -0,0 +1,7 @@
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id);
+CREATE INDEX idx_orders_customer_id_created_at_id ON orders(customer_id, created_at, id);
+CREATE INDEX idx_orders_status_created_at_id ON orders(status, created_at, id);
+CREATE INDEX idx_customers_name_id ON customers(name, id);
+
+DROP INDEX idx_orders_customer_id;
+DROP INDEX idx_orders_status;
@@ -0,0 +1,2 @@
+ALTER TABLE customers RENAME CONSTRAINT customers_email_key TO uk_customers_email;
+ALTER TABLE customers RENAME CONSTRAINT customers_document_number_key TO uk_customers_document_number;
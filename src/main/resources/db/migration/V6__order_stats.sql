@@ -0,0 +1,13 @@
+CREATE TABLE order_stats (
+    stats_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    slot INTEGER NOT NULL,
+    order_count BIGINT NOT NULL,
+    total_amount NUMERIC(19,2) NOT NULL,
+    CONSTRAINT pk_order_stats PRIMARY KEY (stats_date, status, slot)
+);
+
+INSERT INTO order_stats (stats_date, status, slot, order_count, total_amount)
+SELECT CAST(created_at AS DATE), status, 0, COUNT(*), SUM(total_amount)
+FROM orders
+GROUP BY CAST(created_at AS DATE), status;
@@ -0,0 +1,37 @@
+-- Order tables on each shard in sharded mode. Customers stay on the primary database, so there is
+-- no foreign key to them here; ids come from the application's id generator, not a sequence.
+CREATE TABLE orders (
+    id BIGINT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    total_amount NUMERIC(10,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT chk_orders_status
+        CHECK (status IN ('CREATED', 'PROCESSING', 'COMPLETED')),
+    CONSTRAINT chk_orders_total_amount
+        CHECK (total_amount >= 0)
+);
+
+CREATE TABLE order_items (
+    id BIGINT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    product_name VARCHAR(200) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(10,2) NOT NULL,
+    subtotal NUMERIC(10,2) NOT NULL,
+    CONSTRAINT fk_order_items_order
+        FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE,
+    CONSTRAINT chk_order_items_quantity
+        CHECK (quantity > 0),
+    CONSTRAINT chk_order_items_unit_price
+        CHECK (unit_price > 0),
+    CONSTRAINT chk_order_items_subtotal
+        CHECK (subtotal >= 0)
+);
+
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id);
+CREATE INDEX idx_orders_customer_created_at_id ON orders(customer_id, created_at, id);
+CREATE INDEX idx_orders_status_created_at_id ON orders(status, created_at, id);
+CREATE INDEX idx_order_items_order_id ON order_items(order_id);
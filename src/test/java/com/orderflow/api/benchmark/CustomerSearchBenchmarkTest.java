@@ -0,0 +1,93 @@
+package com.orderflow.api.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = "jdbc:postgresql:.*")
+@DisplayName("Customer name search benchmark (PostgreSQL)")
+class CustomerSearchBenchmarkTest {
+
+    private static final List<String> TERMS = List.of("ana", "silva", "customer 4242", "zzz");
+    private static final int ITERATIONS = 20;
+
+    private static final String SEARCH_QUERY = "SELECT id FROM customers WHERE lower(name) LIKE '%' || lower(?) || '%' "
+            + "ORDER BY similarity(lower(name), lower(?)) DESC, name, id LIMIT 20";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${benchmark.customers:3000000}")
+    private int customers;
+
+    @BeforeAll
+    void generateCustomers() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.update("""
+                INSERT INTO customers (name, email, phone, document_number, created_at, updated_at)
+                SELECT (ARRAY['Ana', 'Bruno', 'Carla', 'Diego', 'Elisa'])[1 + g % 5]
+                           || ' ' || (ARRAY['Silva', 'Souza', 'Costa', 'Lima', 'Rocha'])[1 + (g / 5) % 5]
+                           || ' Customer ' || g,
+                       'bench' || g || '@example.com',
+                       '+5511999999999',
+                       lpad(g::text, 11, '0'),
+                       now(),
+                       now()
+                FROM generate_series(1, ?) AS g
+                """, customers);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_customers_name_trgm "
+                + "ON customers USING gin (lower(name) gin_trgm_ops)");
+        jdbcTemplate.execute("ANALYZE customers");
+    }
+
+    @AfterAll
+    void removeCustomers() {
+        jdbcTemplate.update("DELETE FROM customers WHERE email LIKE 'bench%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Trigram index versus sequential scan")
+    void compareTrigramIndexWithSequentialScan() {
+        System.out.printf("%-16s %14s %14s%n", "term", "seqscan ms", "trigram ms");
+        for (String term : TERMS) {
+            double sequential = measure(term, false);
+            double indexed = measure(term, true);
+            System.out.printf("%-16s %14.2f %14.2f%n", term, sequential, indexed);
+        }
+    }
+
+    private double measure(String term, boolean useIndex) {
+        return transactionTemplate.execute(status -> {
+            if (!useIndex) {
+                jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+                jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+            }
+            jdbcTemplate.queryForList(SEARCH_QUERY, Long.class, term, term);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                jdbcTemplate.queryForList(SEARCH_QUERY, Long.class, term, term);
+            }
+            return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.orderflow.api.benchmark;
+
+import com.orderflow.api.model.dto.OrderBatchResponseDTO;
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Order batch creation benchmark")
+class OrderBatchBenchmarkTest {
+
+    private static final int ORDERS = 2000;
+    private static final int CUSTOMERS = 50;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<OrderRequestDTO> requests;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customers.add(customerRepository.save(Customer.builder()
+                    .name("Customer " + i)
+                    .email("customer" + i + "@example.com")
+                    .phone("+5511999999999")
+                    .documentNumber(String.format("%011d", i))
+                    .build()));
+        }
+
+        requests = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderItemRequestDTO> items = new ArrayList<>();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                items.add(OrderItemRequestDTO.builder()
+                        .productName("Product " + j)
+                        .quantity(j + 1)
+                        .unitPrice(new BigDecimal("19.90"))
+                        .build());
+            }
+            requests.add(OrderRequestDTO.builder()
+                    .customerId(customers.get(i % CUSTOMERS).getId())
+                    .items(items)
+                    .build());
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Batch endpoint path versus per-order path")
+    void compareBatchWithPerOrderCreation() {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (OrderRequestDTO request : requests) {
+            orderService.create(request);
+        }
+        long perOrderNanos = System.nanoTime() - start;
+        long perOrderStatements = statistics.getPrepareStatementCount();
+
+        orderRepository.deleteAll();
+
+        statistics.clear();
+        start = System.nanoTime();
+        OrderBatchResponseDTO response = orderService.createBatch(requests);
+        long batchNanos = System.nanoTime() - start;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("%-10s %10s %12s %12s%n", "path", "orders", "millis", "statements");
+        System.out.printf("%-10s %10d %12d %12d%n", "per-order", ORDERS, perOrderNanos / 1_000_000, perOrderStatements);
+        System.out.printf("%-10s %10d %12d %12d%n", "batch", ORDERS, batchNanos / 1_000_000, batchStatements);
+
+        assertThat(response.getCreated()).isEqualTo(ORDERS);
+        assertThat(batchStatements).isLessThan(perOrderStatements);
+    }
+}
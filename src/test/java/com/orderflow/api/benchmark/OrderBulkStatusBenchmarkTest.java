@@ -0,0 +1,121 @@
+package com.orderflow.api.benchmark;
+
+import com.orderflow.api.model.dto.OrderBulkStatusRequestDTO;
+import com.orderflow.api.model.dto.OrderBulkStatusResponseDTO;
+import com.orderflow.api.model.dto.OrderStatusFilterDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.service.OrderBulkStatusService;
+import com.orderflow.api.service.OrderService;
+import com.orderflow.api.service.OrderStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Bulk order status benchmark")
+class OrderBulkStatusBenchmarkTest {
+
+    private static final int BULK_ORDERS = 100_000;
+    private static final int PER_ORDER_ORDERS = 2000;
+    private static final long FIRST_ID = 50_000_000L;
+
+    @Autowired
+    private OrderBulkStatusService orderBulkStatusService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+
+        customerId = customerRepository.save(Customer.builder()
+                .name("Warehouse Customer")
+                .email("warehouse@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Bulk filter update versus per-order PATCH path")
+    void compareBulkWithPerOrderUpdates() {
+        List<Long> perOrderIds = insertCreatedOrders(PER_ORDER_ORDERS);
+        long start = System.nanoTime();
+        for (Long id : perOrderIds) {
+            orderService.updateStatus(id, OrderStatus.PROCESSING);
+        }
+        long perOrderNanos = System.nanoTime() - start;
+
+        orderRepository.deleteAllInBatch();
+        insertCreatedOrders(BULK_ORDERS);
+
+        start = System.nanoTime();
+        OrderBulkStatusResponseDTO response = orderBulkStatusService.updateStatus(OrderBulkStatusRequestDTO.builder()
+                .status(OrderStatus.PROCESSING)
+                .filter(OrderStatusFilterDTO.builder().status(OrderStatus.CREATED).build())
+                .build());
+        long bulkNanos = System.nanoTime() - start;
+
+        System.out.printf("%-10s %10s %12s %14s%n", "path", "orders", "millis", "orders/s");
+        System.out.printf("%-10s %10d %12d %14d%n", "per-order", PER_ORDER_ORDERS, perOrderNanos / 1_000_000,
+                PER_ORDER_ORDERS * 1_000_000_000L / perOrderNanos);
+        System.out.printf("%-10s %10d %12d %14d%n", "bulk", BULK_ORDERS, bulkNanos / 1_000_000,
+                BULK_ORDERS * 1_000_000_000L / bulkNanos);
+
+        assertThat(response.getMoved()).isEqualTo(BULK_ORDERS);
+        assertThat(orderRepository.countByStatus(OrderStatus.PROCESSING)).isEqualTo(BULK_ORDERS);
+    }
+
+    private List<Long> insertCreatedOrders(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        LongStream.range(FIRST_ID, FIRST_ID + count).forEach(id ->
+                rows.add(new Object[]{id, customerId, BigDecimal.TEN, OrderStatus.CREATED.name(), now, now}));
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, customer_id, total_amount, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+        orderStatsService.rebuild();
+        return LongStream.range(FIRST_ID, FIRST_ID + count).boxed().toList();
+    }
+}
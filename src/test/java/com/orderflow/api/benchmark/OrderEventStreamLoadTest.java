@@ -0,0 +1,153 @@
+package com.orderflow.api.benchmark;
+
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.service.OrderEventStream;
+import com.orderflow.api.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Order event stream load test")
+class OrderEventStreamLoadTest {
+
+    private static final int SUBSCRIBERS = 5_000;
+    private static final int EVENTS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventStream orderEventStream;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        customerId = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Fan-out of order events to thousands of subscribers")
+    void fanOutToThousandsOfSubscribers() throws Exception {
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        CountDownLatch done = new CountDownLatch(SUBSCRIBERS);
+        AtomicLong delivered = new AtomicLong();
+        AtomicLong lastDelivery = new AtomicLong();
+        List<Stream<String>> streams = Collections.synchronizedList(new ArrayList<>());
+
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                readers.execute(() -> {
+                    try {
+                        HttpResponse<Stream<String>> response = client.send(HttpRequest.newBuilder(
+                                        URI.create("http://localhost:" + port + "/api/orders/events")).build(),
+                                HttpResponse.BodyHandlers.ofLines());
+                        streams.add(response.body());
+                        Iterator<String> lines = response.body().iterator();
+                        int received = 0;
+                        while (received < EVENTS && lines.hasNext()) {
+                            if (lines.next().startsWith("event:ORDER_CREATED")) {
+                                received++;
+                                delivered.incrementAndGet();
+                                lastDelivery.accumulateAndGet(System.nanoTime(), Math::max);
+                            }
+                        }
+                    } catch (Exception ex) {
+                        // counted as missing deliveries below
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (orderEventStream.subscriberCount() < SUBSCRIBERS && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            int connected = orderEventStream.subscriberCount();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < EVENTS; i++) {
+                createOrder();
+            }
+            long published = System.nanoTime() - start;
+            done.await(60, TimeUnit.SECONDS);
+            long fanOut = lastDelivery.get() - start;
+
+            System.out.printf("%-12s %8s %12s %14s %14s %16s%n",
+                    "subscribers", "events", "deliveries", "publish ms", "fan-out ms", "deliveries/s");
+            System.out.printf("%-12d %8d %12d %14d %14d %16d%n", connected, EVENTS, delivered.get(),
+                    published / 1_000_000, fanOut / 1_000_000, delivered.get() * 1_000_000_000L / Math.max(fanOut, 1));
+
+            assertThat(connected).isEqualTo(SUBSCRIBERS);
+            assertThat(delivered.get()).isEqualTo((long) SUBSCRIBERS * EVENTS);
+        } finally {
+            streams.forEach(Stream::close);
+        }
+    }
+
+    private void createOrder() {
+        orderService.create(OrderRequestDTO.builder()
+                .customerId(customerId)
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product A")
+                        .quantity(1)
+                        .unitPrice(BigDecimal.TEN)
+                        .build()))
+                .build());
+    }
+}
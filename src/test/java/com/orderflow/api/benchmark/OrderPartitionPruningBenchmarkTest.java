@@ -0,0 +1,130 @@
+package com.orderflow.api.benchmark;
+
+import com.orderflow.api.model.dto.OrderSummaryDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.service.CreatedRange;
+import com.orderflow.api.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares a status listing over a single month with the same listing over all time. On H2 the
+ * month only narrows the index range scanned; run it against PostgreSQL with Flyway enabled
+ * (override {@code spring.datasource.*}, {@code spring.flyway.enabled=true} and
+ * {@code spring.jpa.hibernate.ddl-auto=validate}) to measure partition pruning itself.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Order partition pruning benchmark")
+class OrderPartitionPruningBenchmarkTest {
+
+    private static final int MONTHS = 24;
+    private static final int ORDERS_PER_MONTH = 10_000;
+    private static final int ITERATIONS = 50;
+    private static final long FIRST_ID = 80_000_000L;
+    private static final LocalDateTime FIRST_MONTH = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+
+        customerId = customerRepository.save(Customer.builder()
+                .name("Warehouse Customer")
+                .email("warehouse@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("One-month range versus unbounded listing")
+    void compareOneMonthWithUnboundedListing() {
+        insertOrders();
+        LocalDateTime month = FIRST_MONTH.plusMonths(MONTHS / 2);
+        CreatedRange oneMonth = CreatedRange.of(month, month.plusMonths(1));
+        PageRequest newestFirst = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        long unboundedNanos = time(() ->
+                orderService.findSummariesByStatus(OrderStatus.CREATED, CreatedRange.ALL, newestFirst));
+        long prunedNanos = time(() -> orderService.findSummariesByStatus(OrderStatus.CREATED, oneMonth, newestFirst));
+
+        Page<OrderSummaryDTO> pruned = orderService.findSummariesByStatus(OrderStatus.CREATED, oneMonth, newestFirst);
+        System.out.printf("%-10s %12s %14s%n", "range", "orders", "micros/query");
+        System.out.printf("%-10s %12d %14d%n", "all", (long) MONTHS * ORDERS_PER_MONTH / 2, unboundedNanos / 1_000);
+        System.out.printf("%-10s %12d %14d%n", "one month", pruned.getTotalElements(), prunedNanos / 1_000);
+
+        assertThat(pruned.getTotalElements()).isEqualTo(ORDERS_PER_MONTH / 2);
+        assertThat(pruned.getContent()).allSatisfy(order ->
+                assertThat(order.getCreatedAt()).isBetween(month, month.plusMonths(1)));
+        assertThat(prunedNanos).isLessThan(unboundedNanos);
+    }
+
+    private long time(Supplier<Page<OrderSummaryDTO>> query) {
+        query.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private void insertOrders() {
+        long id = FIRST_ID;
+        long secondsPerOrder = 28L * 24 * 3600 / ORDERS_PER_MONTH;
+        for (int month = 0; month < MONTHS; month++) {
+            LocalDateTime monthStart = FIRST_MONTH.plusMonths(month);
+            List<Object[]> rows = new ArrayList<>(ORDERS_PER_MONTH);
+            for (int i = 0; i < ORDERS_PER_MONTH; i++) {
+                Timestamp createdAt = Timestamp.valueOf(monthStart.plusSeconds(i * secondsPerOrder));
+                OrderStatus status = i % 2 == 0 ? OrderStatus.CREATED : OrderStatus.COMPLETED;
+                rows.add(new Object[]{id++, customerId, BigDecimal.TEN, status.name(), createdAt, createdAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO orders (id, customer_id, total_amount, status, created_at, updated_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.orderflow.api.benchmark;
+
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.service.OrderProcessingPool;
+import com.orderflow.api.service.OrderProcessor;
+import com.orderflow.api.service.OrderStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The processing step stands in for a remote call with a fixed 2 ms latency, which is where a
+ * real worker spends its time. Throughput should then grow with the worker count until the
+ * connection pool or the database becomes the limit.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:processing;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "orderflow.processing.batch-size=50"
+})
+@ActiveProfiles("test")
+@DisplayName("Order processing worker scaling benchmark")
+class OrderProcessingScalingBenchmarkTest {
+
+    private static final int ORDERS = 2000;
+    private static final long STEP_MILLIS = 2;
+    private static final int[] WORKERS = {1, 2, 4, 8};
+
+    @Autowired
+    private OrderProcessingPool orderProcessingPool;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+
+        customerId = customerRepository.save(Customer.builder()
+                .name("Warehouse Customer")
+                .email("warehouse@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Throughput by worker count")
+    void throughputByWorkerCount() {
+        Map<Integer, Long> ordersPerSecond = new LinkedHashMap<>();
+        long firstId = 70_000_000L;
+
+        System.out.printf("%-8s %10s %12s %14s%n", "workers", "orders", "millis", "orders/s");
+        for (int workers : WORKERS) {
+            insertCreatedOrders(firstId, ORDERS);
+            firstId += ORDERS;
+
+            long start = System.nanoTime();
+            long processed = orderProcessingPool.processPending(workers);
+            long nanos = System.nanoTime() - start;
+
+            assertThat(processed).isEqualTo(ORDERS);
+            assertThat(orderRepository.countByStatus(OrderStatus.CREATED)).isZero();
+            long rate = ORDERS * 1_000_000_000L / nanos;
+            ordersPerSecond.put(workers, rate);
+            System.out.printf("%-8d %10d %12d %14d%n", workers, ORDERS, nanos / 1_000_000, rate);
+        }
+
+        long single = ordersPerSecond.get(1);
+        assertThat(ordersPerSecond.get(2)).isGreaterThan(single * 16 / 10);
+        assertThat(ordersPerSecond.get(4)).isGreaterThan(single * 3);
+        assertThat(ordersPerSecond.get(8)).isGreaterThan(single * 5);
+        assertThat(orderRepository.countByStatus(OrderStatus.COMPLETED)).isEqualTo((long) ORDERS * WORKERS.length);
+    }
+
+    private void insertCreatedOrders(long firstId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        LongStream.range(firstId, firstId + count).forEach(id ->
+                rows.add(new Object[]{id, customerId, BigDecimal.TEN, OrderStatus.CREATED.name(), now, now}));
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, customer_id, total_amount, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+        orderStatsService.rebuild();
+    }
+
+    @TestConfiguration
+    static class SlowStepConfig {
+
+        @Bean
+        @Primary
+        OrderProcessor slowOrderProcessor() {
+            return order -> {
+                try {
+                    Thread.sleep(STEP_MILLIS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return OrderStatus.COMPLETED;
+            };
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.orderflow.api.benchmark;
+
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Order status contention benchmark")
+class OrderStatusContentionBenchmarkTest {
+
+    private static final int ORDERS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        customer = customerRepository.save(Customer.builder()
+                .name("Contended Customer")
+                .email("contended@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Conditional UPDATE versus load-and-save under contention")
+    void compareConditionalUpdateWithLoadAndSave() throws Exception {
+        Result conditional = run(orderService::changeStatus);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Result loadAndSave = run((id, status) -> transaction.executeWithoutResult(tx -> {
+            Order order = orderRepository.findById(id).orElseThrow();
+            if (order.getStatus() == OrderStatus.COMPLETED
+                    || (order.getStatus() == OrderStatus.CREATED && status == OrderStatus.COMPLETED)) {
+                throw new BusinessException("Invalid transition");
+            }
+            order.setStatus(status);
+            orderRepository.save(order);
+        }));
+
+        System.out.printf("%-14s %10s %12s %12s %12s %12s%n",
+                "path", "attempts", "millis", "ops/s", "completions", "conflicts");
+        conditional.print("conditional");
+        loadAndSave.print("load-and-save");
+
+        assertThat(conditional.completions()).isEqualTo(ORDERS);
+        assertThat(conditional.conflicts()).isZero();
+        assertThat(orderRepository.countByStatus(OrderStatus.COMPLETED)).isEqualTo(ORDERS);
+    }
+
+    private Result run(BiConsumer<Long, OrderStatus> transition) throws Exception {
+        orderRepository.deleteAll();
+        List<Long> ids = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            ids.add(orderRepository.save(Order.builder()
+                    .customer(customer)
+                    .status(OrderStatus.CREATED)
+                    .totalAmount(BigDecimal.TEN)
+                    .build()).getId());
+        }
+
+        AtomicInteger completions = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                List<Long> order = new ArrayList<>(ids);
+                Collections.shuffle(order);
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (Long id : order) {
+                        attempt(transition, id, OrderStatus.PROCESSING, conflicts);
+                        if (attempt(transition, id, OrderStatus.COMPLETED, conflicts)) {
+                            completions.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            return new Result(System.nanoTime() - begin, completions.get(), conflicts.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean attempt(BiConsumer<Long, OrderStatus> transition, Long id, OrderStatus status,
+                            AtomicInteger conflicts) {
+        try {
+            transition.accept(id, status);
+            return true;
+        } catch (BusinessException ex) {
+            return false;
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            conflicts.incrementAndGet();
+            return false;
+        }
+    }
+
+    private record Result(long nanos, int completions, int conflicts) {
+
+        void print(String path) {
+            long attempts = (long) ORDERS * THREADS * 2;
+            System.out.printf("%-14s %10d %12d %12d %12d %12d%n", path, attempts, nanos / 1_000_000,
+                    attempts * 1_000_000_000L / Math.max(nanos, 1), completions, conflicts);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.orderflow.api.benchmark;
+
+import com.orderflow.api.repository.OutboxMessage;
+import com.orderflow.api.repository.OutboxRepository;
+import com.orderflow.api.service.InMemoryOutboxSink;
+import com.orderflow.api.service.OutboxRelay;
+import com.orderflow.api.service.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay-benchmark;DB_CLOSE_DELAY=-1",
+        "orderflow.outbox.batch-size=1000"
+})
+@ActiveProfiles("test")
+@DisplayName("Outbox relay throughput benchmark")
+class OutboxRelayBenchmarkTest {
+
+    private static final int MESSAGES = 100_000;
+    private static final int INSERT_CHUNK = 5_000;
+    private static final int[] WORKERS = {1, 2, 4, 8};
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        sink.drain();
+    }
+
+    @Test
+    @DisplayName("Relay throughput by worker count")
+    void measureRelayThroughput() {
+        System.out.printf("%-8s %10s %12s %14s%n", "workers", "messages", "millis", "messages/s");
+        for (int workers : WORKERS) {
+            fillOutbox();
+
+            long start = System.nanoTime();
+            long relayed = outboxRelay.relayPending(workers);
+            while (outboxRepository.count() > 0) {
+                relayed += outboxRelay.relayPending(workers);
+            }
+            long nanos = System.nanoTime() - start;
+
+            System.out.printf("%-8d %10d %12d %14d%n", workers, relayed, nanos / 1_000_000,
+                    relayed * 1_000_000_000L / nanos);
+            assertThat(relayed).isEqualTo(MESSAGES);
+            sink.drain();
+        }
+    }
+
+    private void fillOutbox() {
+        LocalDateTime now = LocalDateTime.now();
+        String payload = "{\"type\":\"ORDER_CREATED\",\"orderId\":1,\"status\":\"CREATED\",\"totalAmount\":10.00}";
+        for (int start = 0; start < MESSAGES; start += INSERT_CHUNK) {
+            List<OutboxMessage> chunk = new ArrayList<>(INSERT_CHUNK);
+            for (long id = start; id < start + INSERT_CHUNK; id++) {
+                chunk.add(new OutboxMessage(null, OutboxService.ORDER_AGGREGATE, id, "ORDER_CREATED", payload, now));
+            }
+            outboxRepository.insertAll(chunk);
+        }
+    }
+}
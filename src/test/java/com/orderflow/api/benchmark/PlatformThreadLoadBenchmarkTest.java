@@ -0,0 +1,19 @@
+package com.orderflow.api.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+@ActiveProfiles("test")
+@DisplayName("Platform thread request load benchmark")
+class PlatformThreadLoadBenchmarkTest extends ThreadingLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,173 @@
+package com.orderflow.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+abstract class ThreadingLoadBenchmark {
+
+    private static final int CUSTOMERS = 50;
+    private static final int REQUESTS = 4000;
+    private static final int CONCURRENCY = 400;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private List<Long> customerIds;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        customerIds = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds.add(customerRepository.save(Customer.builder()
+                    .name("Customer " + i)
+                    .email("customer" + i + "@example.com")
+                    .phone("+5511999999999")
+                    .documentNumber(String.format("%011d", i))
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void measureCreateAndReadPaths() throws Exception {
+        List<Long> orderIds = new ArrayList<>();
+        Result create = run(i -> {
+            OrderRequestDTO request = OrderRequestDTO.builder()
+                    .customerId(customerIds.get(i % CUSTOMERS))
+                    .items(List.of(OrderItemRequestDTO.builder()
+                            .productName("Product " + i)
+                            .quantity(1)
+                            .unitPrice(new BigDecimal("19.90"))
+                            .build()))
+                    .build();
+            return HttpRequest.newBuilder(uri("/api/orders"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(write(request)))
+                    .build();
+        }, orderIds);
+
+        Result read = run(i -> HttpRequest.newBuilder(uri("/api/orders/" + orderIds.get(i % orderIds.size())))
+                .GET()
+                .build(), null);
+
+        System.out.printf("%-10s %-8s %10s %12s %10s %10s %8s%n",
+                "threads", "path", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+        create.print(mode(), "create");
+        read.print(mode(), "read");
+
+        assertThat(create.errors).isZero();
+        assertThat(read.errors).isZero();
+    }
+
+    private Result run(IntFunction<HttpRequest> requestFactory, List<Long> createdIds) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<Future<HttpResponse<String>>> responses = new ArrayList<>(REQUESTS);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                HttpRequest request = requestFactory.apply(i);
+                inFlight.acquire();
+                responses.add(executor.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        latencies[index] = System.nanoTime() - sent;
+                        return response;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int errors = 0;
+        for (Future<HttpResponse<String>> future : responses) {
+            HttpResponse<String> response = future.get();
+            if (response.statusCode() >= 400) {
+                errors++;
+            } else if (createdIds != null) {
+                JsonNode body = objectMapper.readTree(response.body());
+                createdIds.add(body.get("id").asLong());
+            }
+        }
+
+        Arrays.sort(latencies);
+        return new Result(REQUESTS * 1_000_000_000.0 / elapsed,
+                latencies[REQUESTS / 2] / 1_000_000.0,
+                latencies[REQUESTS * 99 / 100] / 1_000_000.0,
+                errors);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record Result(double throughput, double p50, double p99, int errors) {
+
+        void print(String mode, String path) {
+            System.out.printf("%-10s %-8s %10d %12.0f %10.1f %10.1f %8d%n",
+                    mode, path, REQUESTS, throughput, p50, p99, errors);
+        }
+    }
+}
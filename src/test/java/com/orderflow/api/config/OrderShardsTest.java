@@ -0,0 +1,75 @@
+package com.orderflow.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("OrderShards Tests")
+class OrderShardsTest {
+
+    private static final int CUSTOMERS = 20_000;
+
+    @Test
+    @DisplayName("Should spread customers roughly evenly over the shards")
+    void shouldSpreadCustomersEvenly() {
+        OrderShards shards = new OrderShards(shards(4), 128);
+
+        Map<String, Long> perShard = LongStream.range(0, CUSTOMERS).boxed()
+                .collect(Collectors.groupingBy(id -> shards.forCustomer(id).name(), Collectors.counting()));
+
+        assertThat(perShard).hasSize(4);
+        assertThat(perShard.values()).allSatisfy(count ->
+                assertThat(count).isBetween(CUSTOMERS / 4 * 7 / 10L, CUSTOMERS / 4 * 13 / 10L));
+    }
+
+    @Test
+    @DisplayName("Should only move customers onto a newly added shard")
+    void shouldMoveOnlyCustomersTakenByNewShard() {
+        List<OrderShards.Shard> three = shards(3);
+        List<OrderShards.Shard> four = new ArrayList<>(three);
+        four.add(OrderShards.Shard.of("shard-3", mock(DataSource.class)));
+        OrderShards before = new OrderShards(three, 128);
+        OrderShards after = new OrderShards(four, 128);
+
+        long moved = 0;
+        for (long id = 0; id < CUSTOMERS; id++) {
+            String from = before.forCustomer(id).name();
+            String to = after.forCustomer(id).name();
+            if (!from.equals(to)) {
+                assertThat(to).isEqualTo("shard-3");
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(CUSTOMERS / 4 * 7 / 10L, CUSTOMERS / 4 * 13 / 10L);
+    }
+
+    @Test
+    @DisplayName("Should keep a customer on the same shard regardless of list instance")
+    void shouldBeDeterministic() {
+        OrderShards first = new OrderShards(shards(3), 64);
+        OrderShards second = new OrderShards(shards(3), 64);
+
+        Function<Long, String> owner = id -> first.forCustomer(id).name();
+        assertThat(LongStream.range(0, 1_000).boxed())
+                .allSatisfy(id -> assertThat(second.forCustomer(id).name()).isEqualTo(owner.apply(id)));
+    }
+
+    private static List<OrderShards.Shard> shards(int count) {
+        List<OrderShards.Shard> shards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shards.add(OrderShards.Shard.of("shard-" + i, mock(DataSource.class)));
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,66 @@
+package com.orderflow.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesFilter Tests")
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    private final ReadYourWritesFilter filter =
+            new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Should pin a write and hand the client a deadline cookie")
+    void shouldPinWriteAndSetCookie() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean pinned = pinnedDuring(new MockHttpServletRequest("POST", "/api/orders"), response);
+
+        assertThat(pinned).isTrue();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE))
+                .satisfies(cookie -> assertThat(cookie.getValue())
+                        .isEqualTo(Long.toString(NOW.plusSeconds(5).toEpochMilli())));
+        assertThat(ReplicaRoutingDataSource.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pin a read while the cookie deadline has not passed")
+    void shouldPinReadBeforeDeadline() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(NOW.plusSeconds(1).toEpochMilli())));
+
+        assertThat(pinnedDuring(request, new MockHttpServletResponse())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave reads unpinned without a live cookie")
+    void shouldNotPinReadAfterDeadline() throws Exception {
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/orders/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(NOW.minusSeconds(1).toEpochMilli())));
+
+        assertThat(pinnedDuring(expired, new MockHttpServletResponse())).isFalse();
+        assertThat(pinnedDuring(new MockHttpServletRequest("GET", "/api/orders/1"), new MockHttpServletResponse()))
+                .isFalse();
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        FilterChain chain = (req, res) -> pinned.set(ReplicaRoutingDataSource.isPinnedToPrimary());
+        filter.doFilter(request, response, chain);
+        return pinned.get();
+    }
+}
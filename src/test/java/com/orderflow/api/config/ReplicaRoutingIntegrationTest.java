@@ -0,0 +1,103 @@
+package com.orderflow.api.config;
+
+import com.orderflow.api.model.dto.CustomerRequestDTO;
+import com.orderflow.api.model.dto.CustomerResponseDTO;
+import com.orderflow.api.service.CustomerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+        "orderflow.replicas.enabled=true",
+        "orderflow.replicas.urls=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1,jdbc:h2:mem:missing;IFEXISTS=TRUE",
+        "orderflow.replicas.connection-timeout=250ms",
+        "orderflow.replicas.health-check-interval=PT1H"
+})
+@ActiveProfiles("test")
+@DisplayName("Replica routing Integration Tests")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        replicaRoutingDataSource.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and the rest to the primary")
+    void shouldRouteByReadOnlyFlag() {
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("replica");
+        assertThat(databaseIn(false)).isEqualToIgnoringCase("routing");
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isEqualToIgnoringCase("routing");
+    }
+
+    @Test
+    @DisplayName("Should eject a replica that cannot hand out connections")
+    void shouldEjectUnreachableReplica() {
+        assertThat(replicaRoutingDataSource.healthyReplicas()).isEqualTo(1);
+
+        List<String> databases = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            databases.add(databaseIn(true));
+        }
+
+        assertThat(databases).allSatisfy(database -> assertThat(database).isEqualToIgnoringCase("replica"));
+    }
+
+    @Test
+    @DisplayName("Should keep a pinned thread on the primary for read-only transactions")
+    void shouldReadFromPrimaryWhenPinned() {
+        ReplicaRoutingDataSource.pinToPrimary();
+
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routing");
+    }
+
+    @Test
+    @DisplayName("Should load customers for the shared cache from the primary")
+    void shouldLoadCachedCustomersFromPrimary() {
+        CustomerResponseDTO created = customerService.create(CustomerRequestDTO.builder()
+                .name("John Doe")
+                .email("routing@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        // The replica has no schema, so this only succeeds if the lookup stays on the primary.
+        assertThat(customerService.findById(created.getId()).getName()).isEqualTo("John Doe");
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(tx -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,25 @@
+package com.orderflow.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShardingConfig Tests")
+class ShardingConfigTest {
+
+    @Test
+    @DisplayName("Should refuse to start without a node id")
+    void shouldRequireNodeId() {
+        assertThatThrownBy(() -> new ShardingConfig().orderIdGenerator(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ORDER_ID_NODE");
+    }
+
+    @Test
+    @DisplayName("Should build the id generator for the configured node")
+    void shouldUseConfiguredNodeId() {
+        assertThat(new ShardingConfig().orderIdGenerator("3").nextId()).isPositive();
+    }
+}
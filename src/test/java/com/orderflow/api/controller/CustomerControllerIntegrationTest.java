@@ -1,15 +1,21 @@
 package com.orderflow.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.config.CacheConfig;
 import com.orderflow.api.model.dto.CustomerRequestDTO;
+import com.orderflow.api.model.dto.CustomerResponseDTO;
 import com.orderflow.api.model.entity.Customer;
 import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.service.EntityTags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -35,6 +41,9 @@ class CustomerControllerIntegrationTest {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     private CustomerRequestDTO validRequest;
 
     @BeforeEach
@@ -110,6 +119,70 @@ class CustomerControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value(containsString("Email already in use")));
     }
 
+    @Test
+    @DisplayName("POST /api/customers/import - Should import CSV rows and report rejections")
+    void shouldImportCustomersFromCsv() throws Exception {
+        customerRepository.save(Customer.builder()
+                .name("Existing Customer")
+                .email("existing@example.com")
+                .phone("+5511999999999")
+                .documentNumber("99999999999")
+                .build());
+
+        String csv = """
+                name,email,phone,document_number
+                John Doe,john@example.com,+5511999999999,12345678901
+                "Doe, Jane",jane@example.com,+5511988888888,98765432100
+                X,not-an-email,+5511977777777,11111111111
+                Duplicate,existing@example.com,+5511966666666,22222222222
+                """;
+
+        mockMvc.perform(post("/api/customers/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(4))
+                .andExpect(jsonPath("$.rejections[0].errors", hasItems(
+                        "Email must be valid", "Name must be between 3 and 100 characters")));
+
+        mockMvc.perform(get("/api/customers/search")
+                        .param("name", "Doe, Jane"))
+                .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("POST /api/customers/import - Should import NDJSON rows")
+    void shouldImportCustomersFromNdjson() throws Exception {
+        String ndjson = """
+                {"name":"John Doe","email":"john@example.com","phone":"+5511999999999","documentNumber":"12345678901"}
+                {"name":"John Again","email":"john@example.com","phone":"+5511999999999","documentNumber":"12345678902"}
+                {not json}
+                """;
+
+        mockMvc.perform(post("/api/customers/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(3))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(3));
+    }
+
+    @Test
+    @DisplayName("POST /api/customers/import - Should return 400 when the CSV header is incomplete")
+    void shouldRejectCsvWithoutRequiredColumns() throws Exception {
+        mockMvc.perform(post("/api/customers/import")
+                        .contentType("text/csv")
+                        .content("name,email\nJohn Doe,john@example.com\n"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/customers/{id} - Should return customer when found")
     void shouldReturnCustomerWhenFound() throws Exception {
@@ -163,6 +236,99 @@ class CustomerControllerIntegrationTest {
                 .andExpect(jsonPath("$.size").value(10));
     }
 
+    @Test
+    @DisplayName("GET /api/customers?slice=true - Should return a slice without counting")
+    void shouldReturnCustomerSliceWithoutCount() throws Exception {
+        customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        customerRepository.save(Customer.builder()
+                .name("Jane Doe")
+                .email("jane@example.com")
+                .phone("+5511988888888")
+                .documentNumber("98765432100")
+                .build());
+
+        mockMvc.perform(get("/api/customers")
+                        .param("slice", "true")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name").value("Jane Doe"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get("/api/customers/search")
+                        .param("name", "doe")
+                        .param("slice", "true")
+                        .param("count", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/customers?limit - Should walk customers by name with a cursor")
+    void shouldWalkCustomersWithCursor() throws Exception {
+        customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        customerRepository.save(Customer.builder()
+                .name("Jane Doe")
+                .email("jane@example.com")
+                .phone("+5511988888888")
+                .documentNumber("98765432100")
+                .build());
+
+        customerRepository.save(Customer.builder()
+                .name("Bob Smith")
+                .email("bob@example.com")
+                .phone("+5511977777777")
+                .documentNumber("11111111111")
+                .build());
+
+        String firstPage = mockMvc.perform(get("/api/customers")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].name").value("Bob Smith"))
+                .andExpect(jsonPath("$.content[1].name").value("Jane Doe"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/customers")
+                        .param("after", cursor)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name").value("John Doe"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/customers - Should return 400 for conflicting list modes")
+    void shouldReturn400ForConflictingListModes() throws Exception {
+        mockMvc.perform(get("/api/customers")
+                        .param("slice", "true")
+                        .param("limit", "5"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/customers")
+                        .param("after", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/customers/search - Should search customers by name")
     void shouldSearchCustomersByName() throws Exception {
@@ -212,6 +378,98 @@ class CustomerControllerIntegrationTest {
                 .andExpect(jsonPath("$.phone").value("+5511977777777"));
     }
 
+    @Test
+    @DisplayName("GET /api/customers/{id} - Should return 304 when If-None-Match has the current ETag")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        Customer saved = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        String eTag = mockMvc.perform(get("/api/customers/{id}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/customers/{id}", saved.getId())
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/customers/{id}", saved.getId())
+                        .header("If-None-Match", "W/" + eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/customers/{id} - Should tag a cached body with its own version")
+    void shouldTagCachedCustomerFromItsBody() throws Exception {
+        Customer saved = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+        CustomerResponseDTO cached = CustomerResponseDTO.builder()
+                .id(saved.getId())
+                .name("Old Name")
+                .email("john@example.com")
+                .updatedAt(saved.getUpdatedAt().minusMinutes(1))
+                .build();
+        // Writes through the transaction-aware decorator would wait for a commit that never comes.
+        Cache cache = ((TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfig.CUSTOMERS)).getTargetCache();
+        cache.put(saved.getId(), cached);
+
+        try {
+            mockMvc.perform(get("/api/customers/{id}", saved.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Old Name"))
+                    .andExpect(header().string("ETag", EntityTags.customer(saved.getId(), cached.getUpdatedAt())));
+        } finally {
+            cache.evict(saved.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("PUT /api/customers/{id} - Should return 412 when If-Match is stale")
+    void shouldRejectUpdateWithStaleETag() throws Exception {
+        Customer saved = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        CustomerRequestDTO updateRequest = CustomerRequestDTO.builder()
+                .name("John Updated")
+                .email("john@example.com")
+                .phone("+5511977777777")
+                .documentNumber("12345678901")
+                .build();
+
+        String eTag = mockMvc.perform(get("/api/customers/{id}", saved.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String updatedETag = mockMvc.perform(put("/api/customers/{id}", saved.getId())
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/customers/{id}", saved.getId())
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/customers/{id}", saved.getId())
+                        .header("If-None-Match", updatedETag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("DELETE /api/customers/{id} - Should delete customer successfully")
     void shouldDeleteCustomerSuccessfully() throws Exception {
@@ -1,6 +1,7 @@
 package com.orderflow.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.model.dto.OrderBatchRequestDTO;
 import com.orderflow.api.model.dto.OrderItemRequestDTO;
 import com.orderflow.api.model.dto.OrderRequestDTO;
 import com.orderflow.api.model.entity.Customer;
@@ -20,6 +21,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
@@ -118,6 +120,42 @@ class OrderControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldCreateOrdersInBatch() throws Exception {
+        OrderRequestDTO unknownCustomer = OrderRequestDTO.builder()
+                .customerId(999L)
+                .items(validOrderRequest.getItems())
+                .build();
+
+        OrderBatchRequestDTO batch = OrderBatchRequestDTO.builder()
+                .orders(List.of(validOrderRequest, unknownCustomer, validOrderRequest))
+                .build();
+
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].created").value(true))
+                .andExpect(jsonPath("$.results[0].orderId").exists())
+                .andExpect(jsonPath("$.results[0].totalAmount").value(100.00))
+                .andExpect(jsonPath("$.results[1].created").value(false))
+                .andExpect(jsonPath("$.results[1].message").value("Customer not found with id: 999"))
+                .andExpect(jsonPath("$.results[2].created").value(true));
+    }
+
+    @Test
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(OrderBatchRequestDTO.builder()
+                                .orders(List.of())
+                                .build())))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldFindOrderById() throws Exception {
         Order order = orderRepository.save(Order.builder()
@@ -130,6 +168,35 @@ class OrderControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        Order order = orderRepository.save(Order.builder()
+                .customer(customer)
+                .status(OrderStatus.CREATED)
+                .totalAmount(BigDecimal.ZERO)
+                .build());
+
+        String eTag = mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/orders/{id}/status", order.getId())
+                        .param("status", "PROCESSING"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
     @Test
     void shouldReturn404WhenOrderNotFound() throws Exception {
         mockMvc.perform(get("/api/orders/{id}", 999L))
@@ -151,6 +218,162 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    void shouldReturnSliceWithoutCount() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            orderRepository.save(Order.builder()
+                    .customer(customer)
+                    .status(OrderStatus.CREATED)
+                    .totalAmount(BigDecimal.ZERO)
+                    .build());
+        }
+
+        mockMvc.perform(get("/api/orders")
+                        .param("slice", "true")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get("/api/orders")
+                        .param("slice", "true")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .param("count", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        mockMvc.perform(get("/api/orders/status/{status}", "CREATED")
+                        .param("slice", "true")
+                        .param("count", "ESTIMATE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId())
+                        .param("slice", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void shouldWalkOrdersWithCursor() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(Order.builder()
+                    .customer(customer)
+                    .status(OrderStatus.CREATED)
+                    .totalAmount(BigDecimal.ZERO)
+                    .build());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/orders")
+                        .param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/orders")
+                        .param("after", cursor)
+                        .param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId())
+                        .param("after", cursor)
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+
+        mockMvc.perform(get("/api/orders/status/{status}", "CREATED")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void shouldReturn400ForConflictingListModes() throws Exception {
+        mockMvc.perform(get("/api/orders")
+                        .param("slice", "true")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId())
+                        .param("after", "abc"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/orders/status/{status}", "CREATED")
+                        .param("view", "compact"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldListOrderSummariesWithoutItems() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            orderRepository.save(Order.builder()
+                    .customer(customer)
+                    .status(OrderStatus.CREATED)
+                    .totalAmount(BigDecimal.TEN)
+                    .build());
+        }
+
+        mockMvc.perform(get("/api/orders")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].customerName").value("John Doe"))
+                .andExpect(jsonPath("$.content[0].totalAmount").value(10))
+                .andExpect(jsonPath("$.content[0].items").doesNotExist());
+
+        mockMvc.perform(get("/api/orders/status/{status}", "CREATED")
+                        .param("view", "summary")
+                        .param("slice", "true")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.content[0].items").doesNotExist());
+
+        String firstPage = mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId())
+                        .param("view", "summary")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].items").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId())
+                        .param("view", "summary")
+                        .param("after", objectMapper.readTree(firstPage).get("nextCursor").asText())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void shouldReturn400WhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/orders")
+                        .param("after", "not-a-cursor")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/orders")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldFilterOrdersByCustomer() throws Exception {
         orderRepository.save(Order.builder()
@@ -164,6 +387,33 @@ class OrderControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void shouldFilterOrdersByCreationTime() throws Exception {
+        orderRepository.save(Order.builder()
+                .customer(customer)
+                .status(OrderStatus.CREATED)
+                .totalAmount(BigDecimal.ZERO)
+                .build());
+        LocalDateTime now = LocalDateTime.now();
+
+        mockMvc.perform(get("/api/orders/status/{status}", "CREATED")
+                        .param("createdFrom", now.minusHours(1).toString())
+                        .param("createdTo", now.plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+
+        mockMvc.perform(get("/api/orders")
+                        .param("createdTo", now.minusHours(1).toString())
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+
+        mockMvc.perform(get("/api/orders")
+                        .param("createdFrom", now.toString())
+                        .param("createdTo", now.minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldFilterOrdersByStatus() throws Exception {
         orderRepository.save(Order.builder()
@@ -191,6 +441,76 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("PROCESSING"));
     }
 
+    @Test
+    void shouldUpdateStatusWithoutBodyWhenMinimalReturnPreferred() throws Exception {
+        Order order = orderRepository.save(Order.builder()
+                .customer(customer)
+                .status(OrderStatus.CREATED)
+                .totalAmount(BigDecimal.ZERO)
+                .build());
+
+        mockMvc.perform(patch("/api/orders/{id}/status", order.getId())
+                        .param("status", "PROCESSING")
+                        .header("Prefer", "return=minimal"))
+                .andExpect(status().isNoContent())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(jsonPath("$.status").value("PROCESSING"));
+    }
+
+    @Test
+    void shouldRequireMatchingETagWhenIfMatchIsSent() throws Exception {
+        Order order = orderRepository.save(Order.builder()
+                .customer(customer)
+                .status(OrderStatus.CREATED)
+                .totalAmount(BigDecimal.ZERO)
+                .build());
+
+        String eTag = mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/api/orders/{id}/status", order.getId())
+                        .param("status", "PROCESSING")
+                        .header("If-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PROCESSING"));
+
+        mockMvc.perform(patch("/api/orders/{id}/status", order.getId())
+                        .param("status", "COMPLETED")
+                        .header("If-Match", eTag))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(jsonPath("$.status").value("PROCESSING"));
+    }
+
+    @Test
+    void shouldTagStatusChangesWithTheStateTheyProduced() throws Exception {
+        Order order = orderRepository.save(Order.builder()
+                .customer(customer)
+                .status(OrderStatus.CREATED)
+                .totalAmount(BigDecimal.ZERO)
+                .build());
+
+        String processing = mockMvc.perform(patch("/api/orders/{id}/status", order.getId())
+                        .param("status", "PROCESSING"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(header().string("ETag", processing));
+
+        String completed = mockMvc.perform(patch("/api/orders/{id}/status", order.getId())
+                        .param("status", "COMPLETED")
+                        .header("Prefer", "return=minimal")
+                        .header("If-Match", processing))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(header().string("ETag", completed))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
     @Test
     void shouldNotSkipProcessing() throws Exception {
         Order order = orderRepository.save(Order.builder()
@@ -228,4 +548,40 @@ class OrderControllerIntegrationTest {
         mockMvc.perform(delete("/api/orders/{id}", order.getId()))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void shouldStreamExportWithNdjsonContentType() throws Exception {
+        mockMvc.perform(get("/api/orders/export")
+                        .param("status", "CREATED")
+                        .param("createdFrom", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", containsString("orders.ndjson")));
+    }
+
+    @Test
+    void shouldRejectExportRangeBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/orders/export")
+                        .param("createdFrom", "2024-02-01T00:00:00")
+                        .param("createdTo", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnStatsForEveryStatus() throws Exception {
+        mockMvc.perform(get("/api/orders/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus", hasSize(OrderStatus.values().length)))
+                .andExpect(jsonPath("$.byStatus[0].status").value("CREATED"));
+    }
+
+    @Test
+    void shouldRejectStatsRangeWithFromAfterTo() throws Exception {
+        mockMvc.perform(get("/api/orders/stats")
+                        .param("from", "2024-02-01")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,214 @@
+package com.orderflow.api.controller;
+
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.service.OrderEventStream;
+import com.orderflow.api.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:order-events;DB_CLOSE_DELAY=-1",
+                "orderflow.events.buffer-size=" + OrderEventStreamIntegrationTest.BUFFER_SIZE
+        })
+@ActiveProfiles("test")
+@DisplayName("Order event stream Integration Tests")
+class OrderEventStreamIntegrationTest {
+
+    static final int BUFFER_SIZE = 4;
+
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventStream orderEventStream;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        customerId = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should push order events after commit")
+    void shouldPushOrderEventsAfterCommit() throws Exception {
+        try (EventReader reader = subscribe(null)) {
+            OrderResponseDTO order = createOrder();
+
+            SseEvent event = reader.next();
+            assertThat(event.name()).isEqualTo("ORDER_CREATED");
+            assertThat(event.id()).isNotNull();
+            assertThat(event.data()).contains("\"orderId\":" + order.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should resume after Last-Event-ID from the replay buffer")
+    void shouldResumeFromLastEventId() throws Exception {
+        String firstId;
+        OrderResponseDTO second;
+        try (EventReader reader = subscribe(null)) {
+            createOrder();
+            firstId = reader.next().id();
+            second = createOrder();
+            reader.next();
+        }
+
+        try (EventReader resumed = subscribe(firstId)) {
+            SseEvent event = resumed.next();
+            assertThat(Long.parseLong(event.id())).isGreaterThan(Long.parseLong(firstId));
+            assertThat(event.data()).contains("\"orderId\":" + second.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay a backlog larger than the subscriber buffer")
+    void shouldReplayBacklogLargerThanBuffer() throws Exception {
+        String firstId;
+        try (EventReader reader = subscribe(null)) {
+            createOrder();
+            firstId = reader.next().id();
+        }
+        List<Long> missed = new ArrayList<>();
+        for (int i = 0; i < BUFFER_SIZE * 3; i++) {
+            missed.add(createOrder().getId());
+        }
+
+        try (EventReader resumed = subscribe(firstId)) {
+            for (Long orderId : missed) {
+                SseEvent event = resumed.next();
+                assertThat(event.name()).isEqualTo("ORDER_CREATED");
+                assertThat(event.data()).contains("\"orderId\":" + orderId);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should ask the client to reset when the position is unknown")
+    void shouldSendResetForUnknownPosition() throws Exception {
+        try (EventReader reader = subscribe("1")) {
+            assertThat(reader.next().name()).isEqualTo("reset");
+        }
+    }
+
+    private OrderResponseDTO createOrder() {
+        return orderService.create(OrderRequestDTO.builder()
+                .customerId(customerId)
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product A")
+                        .quantity(1)
+                        .unitPrice(BigDecimal.TEN)
+                        .build()))
+                .build());
+    }
+
+    private EventReader subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders/events"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return new EventReader(response.body());
+    }
+
+    record SseEvent(String id, String name, String data) {
+    }
+
+    static final class EventReader implements AutoCloseable {
+
+        private final Stream<String> lines;
+        private final Iterator<String> iterator;
+
+        EventReader(Stream<String> lines) {
+            this.lines = lines;
+            this.iterator = lines.iterator();
+        }
+
+        SseEvent next() throws Exception {
+            return CompletableFuture.supplyAsync(this::readEvent)
+                    .get(READ_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private SseEvent readEvent() {
+            String id = null;
+            String name = null;
+            StringBuilder data = new StringBuilder();
+            while (iterator.hasNext()) {
+                String line = iterator.next();
+                if (line.isEmpty()) {
+                    if (name != null || !data.isEmpty()) {
+                        return new SseEvent(id, name, data.toString());
+                    }
+                } else if (line.startsWith("id:")) {
+                    id = line.substring(3).trim();
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    data.append(line.substring(5).trim());
+                }
+            }
+            throw new IllegalStateException("Event stream closed");
+        }
+
+        @Override
+        public void close() {
+            lines.close();
+        }
+    }
+}
@@ -146,4 +146,37 @@ class CustomerRepositoryTest {
         assertThat(johnPage.getContent()).hasSize(1);
         assertThat(johnPage.getContent().get(0).getName()).isEqualTo("John Doe");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should rank name matches and escape LIKE wildcards in the fallback search")
+    void shouldRankNameMatchesInFallbackSearch() {
+        customerRepository.save(Customer.builder()
+                .name("Anna Maria Doe")
+                .email("anna@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        customerRepository.save(Customer.builder()
+                .name("Maria")
+                .email("maria@example.com")
+                .phone("+5511988888888")
+                .documentNumber("98765432100")
+                .build());
+
+        customerRepository.save(Customer.builder()
+                .name("Maria 100% Silva")
+                .email("silva@example.com")
+                .phone("+5511977777777")
+                .documentNumber("11111111111")
+                .build());
+
+        Page<Customer> ranked = customerRepository.searchByNameRankedFallback("maria", "maria", PageRequest.of(0, 10));
+        Page<Customer> literalPercent = customerRepository.searchByNameRankedFallback("100\\%", "100%", PageRequest.of(0, 10));
+
+        assertThat(ranked.getContent()).extracting(Customer::getName)
+                .containsExactly("Maria", "Maria 100% Silva", "Anna Maria Doe");
+        assertThat(literalPercent.getContent()).extracting(Customer::getName)
+                .containsExactly("Maria 100% Silva");
+    }
+}
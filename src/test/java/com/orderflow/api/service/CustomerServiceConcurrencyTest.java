@@ -0,0 +1,93 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.model.dto.CustomerRequestDTO;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("CustomerService Concurrency Tests")
+class CustomerServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent creates with the same email succeed")
+    void shouldAllowOnlyOneConcurrentCreateWithSameEmail() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                String documentNumber = String.format("%011d", i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        customerService.create(CustomerRequestDTO.builder()
+                                .name("John Doe")
+                                .email("john@example.com")
+                                .phone("+5511999999999")
+                                .documentNumber(documentNumber)
+                                .build());
+                        return true;
+                    } catch (BusinessException ex) {
+                        assertThat(ex.getMessage()).isEqualTo("Email already in use");
+                        return false;
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    created++;
+                }
+            }
+
+            assertThat(created).isEqualTo(1);
+            assertThat(customerRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
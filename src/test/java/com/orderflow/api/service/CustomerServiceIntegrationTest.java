@@ -0,0 +1,152 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.config.CacheConfig;
+import com.orderflow.api.model.dto.CustomerRequestDTO;
+import com.orderflow.api.model.dto.CustomerResponseDTO;
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:customer-cache;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("CustomerService Integration Tests")
+class CustomerServiceIntegrationTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private CustomerResponseDTO customer;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.CUSTOMERS).clear();
+
+        customer = customerService.create(CustomerRequestDTO.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        customerService.findById(customer.getId());
+        customerService.findById(customer.getId());
+        CustomerResponseDTO cached = customerService.findById(customer.getId());
+
+        assertThat(cached.getName()).isEqualTo("John Doe");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the cached customer on update")
+    void shouldEvictCachedCustomerOnUpdate() {
+        customerService.findById(customer.getId());
+
+        customerService.update(customer.getId(), CustomerRequestDTO.builder()
+                .name("Jane Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        assertThat(customerService.findById(customer.getId()).getName()).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    @DisplayName("Should keep the cached customer until the update commits")
+    void shouldEvictCachedCustomerAfterCommit() {
+        customerService.findById(customer.getId());
+        Cache cache = cacheManager.getCache(CacheConfig.CUSTOMERS);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            customerService.update(customer.getId(), CustomerRequestDTO.builder()
+                    .name("Jane Doe")
+                    .email("john@example.com")
+                    .phone("+5511999999999")
+                    .documentNumber("12345678901")
+                    .build());
+
+            assertThat(cache.get(customer.getId())).isNotNull();
+        });
+
+        assertThat(cache.get(customer.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict the cached customer on delete")
+    void shouldEvictCachedCustomerOnDelete() {
+        customerService.findById(customer.getId());
+
+        customerService.delete(customer.getId());
+
+        assertThat(cacheManager.getCache(CacheConfig.CUSTOMERS).get(customer.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should create orders for a cached customer without selecting it")
+    void shouldCreateOrdersForCachedCustomerWithoutSelectingIt() {
+        customerService.findById(customer.getId());
+        statistics.clear();
+
+        OrderRequestDTO request = OrderRequestDTO.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product A")
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build()))
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(orderService.create(request).getCustomerName()).isEqualTo("John Doe");
+        }
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -1,11 +1,14 @@
 package com.orderflow.api.service;
 
+import com.orderflow.api.config.DatabaseFeatures;
 import com.orderflow.api.exception.BusinessException;
 import com.orderflow.api.exception.ResourceNotFoundException;
 import com.orderflow.api.model.dto.CustomerRequestDTO;
 import com.orderflow.api.model.dto.CustomerResponseDTO;
 import com.orderflow.api.model.entity.Customer;
 import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderArchiveRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,11 +16,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +40,24 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private DatabaseFeatures databaseFeatures;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
+
+    @Mock
+    private OrderStatsService orderStatsService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Mock
+    private ObjectProvider<ShardedOrderService> shardedOrderService;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -63,9 +87,7 @@ class CustomerServiceTest {
     @Test
     @DisplayName("Should create customer successfully")
     void shouldCreateCustomerSuccessfully() {
-        when(customerRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(customerRepository.findByDocumentNumber(anyString())).thenReturn(Optional.empty());
-        when(customerRepository.save(any(Customer.class))).thenReturn(existingCustomer);
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(existingCustomer);
 
         CustomerResponseDTO response = customerService.create(validRequest);
 
@@ -74,32 +96,43 @@ class CustomerServiceTest {
         assertThat(response.getName()).isEqualTo("John Doe");
         assertThat(response.getEmail()).isEqualTo("john@example.com");
 
-        verify(customerRepository).save(any(Customer.class));
+        verify(customerRepository).saveAndFlush(any(Customer.class));
+        verify(customerRepository, never()).findByEmail(anyString());
+        verify(customerRepository, never()).findByDocumentNumber(anyString());
     }
 
     @Test
     @DisplayName("Should throw BusinessException when email already exists")
     void shouldThrowExceptionWhenEmailExists() {
-        when(customerRepository.findByEmail(anyString())).thenReturn(Optional.of(existingCustomer));
+        when(customerRepository.saveAndFlush(any(Customer.class)))
+                .thenThrow(uniqueViolation(Customer.EMAIL_CONSTRAINT));
 
         assertThatThrownBy(() -> customerService.create(validRequest))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Email already in use");
 
-        verify(customerRepository, never()).save(any(Customer.class));
+        verify(businessMetrics).rejection("email_in_use");
     }
 
     @Test
     @DisplayName("Should throw BusinessException when document number already exists")
     void shouldThrowExceptionWhenDocumentExists() {
-        when(customerRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(customerRepository.findByDocumentNumber(anyString())).thenReturn(Optional.of(existingCustomer));
+        when(customerRepository.saveAndFlush(any(Customer.class)))
+                .thenThrow(uniqueViolation("PUBLIC." + Customer.DOCUMENT_NUMBER_CONSTRAINT.toUpperCase()));
 
         assertThatThrownBy(() -> customerService.create(validRequest))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Document number already in use");
+    }
 
-        verify(customerRepository, never()).save(any(Customer.class));
+    @Test
+    @DisplayName("Should rethrow integrity violations that are not uniqueness conflicts")
+    void shouldRethrowOtherIntegrityViolations() {
+        when(customerRepository.saveAndFlush(any(Customer.class)))
+                .thenThrow(uniqueViolation("chk_customers_other"));
+
+        assertThatThrownBy(() -> customerService.create(validRequest))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -156,14 +189,12 @@ class CustomerServiceTest {
                 .build();
 
         when(customerRepository.findById(1L)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.findByEmail(anyString())).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.findByDocumentNumber(anyString())).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(existingCustomer);
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(existingCustomer);
 
         CustomerResponseDTO response = customerService.update(1L, updateRequest);
 
         assertThat(response).isNotNull();
-        verify(customerRepository).save(any(Customer.class));
+        verify(customerRepository).saveAndFlush(any(Customer.class));
     }
 
     @Test
@@ -195,7 +226,8 @@ class CustomerServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Customer> customerPage = new PageImpl<>(List.of(existingCustomer));
 
-        when(customerRepository.findByNameContainingIgnoreCase("John", pageable))
+        when(databaseFeatures.isPostgres()).thenReturn(false);
+        when(customerRepository.searchByNameRankedFallback("John", "John", pageable))
                 .thenReturn(customerPage);
 
         Page<CustomerResponseDTO> response = customerService.searchByName("John", pageable);
@@ -204,6 +236,12 @@ class CustomerServiceTest {
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.getContent().get(0).getName()).contains("John");
 
-        verify(customerRepository).findByNameContainingIgnoreCase("John", pageable);
+        verify(customerRepository).searchByNameRankedFallback("John", "John", pageable);
+    }
+
+    private DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation",
+                        new SQLException("duplicate key", "23505"), constraintName));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.IdempotencyRepository;
+import com.orderflow.api.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("IdempotencyService Concurrency Tests")
+class IdempotencyServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        Customer customer = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+
+        request = OrderRequestDTO.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product A")
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("50.00"))
+                        .build()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create one order for many concurrent requests with the same key")
+    void shouldCreateOneOrderForConcurrentDuplicates() throws Exception {
+        AtomicInteger creates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<IdempotencyService.IdempotentResult<OrderResponseDTO>>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return idempotencyService.execute("orders", "retry-1", request, OrderResponseDTO.class, () -> {
+                        creates.incrementAndGet();
+                        return orderService.create(request);
+                    });
+                }));
+            }
+
+            start.countDown();
+
+            List<IdempotencyService.IdempotentResult<OrderResponseDTO>> responses = new ArrayList<>();
+            for (Future<IdempotencyService.IdempotentResult<OrderResponseDTO>> result : results) {
+                responses.add(result.get());
+            }
+
+            assertThat(creates.get()).isEqualTo(1);
+            assertThat(orderRepository.count()).isEqualTo(1);
+            assertThat(responses).filteredOn(response -> !response.replayed()).hasSize(1);
+            assertThat(responses).extracting(response -> response.body().getId()).containsOnly(
+                    responses.get(0).body().getId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without calling the action again")
+    void shouldReplayStoredResponse() {
+        IdempotencyService.IdempotentResult<OrderResponseDTO> first = idempotencyService.execute(
+                "orders", "retry-2", request, OrderResponseDTO.class, () -> orderService.create(request));
+
+        IdempotencyService.IdempotentResult<OrderResponseDTO> replay = idempotencyService.execute(
+                "orders", "retry-2", request, OrderResponseDTO.class, () -> {
+                    throw new AssertionError("action must not run on replay");
+                });
+
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.body()).isEqualTo(first.body());
+        assertThat(orderRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a reused key with a different request")
+    void shouldRejectKeyReusedWithDifferentRequest() {
+        idempotencyService.execute("orders", "retry-3", request, OrderResponseDTO.class,
+                () -> orderService.create(request));
+
+        OrderRequestDTO other = OrderRequestDTO.builder()
+                .customerId(request.getCustomerId())
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product B")
+                        .quantity(1)
+                        .unitPrice(BigDecimal.ONE)
+                        .build()))
+                .build();
+
+        assertThatThrownBy(() -> idempotencyService.execute("orders", "retry-3", other, OrderResponseDTO.class,
+                () -> orderService.create(other)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should remove expired keys")
+    void shouldRemoveExpiredKeys() {
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        idempotencyRepository.insert("orders", "old", "hash", "{}", past, past.plusDays(1));
+
+        idempotencyService.deleteExpired();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Long.class)).isZero();
+    }
+}
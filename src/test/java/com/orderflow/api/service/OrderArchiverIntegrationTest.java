@@ -0,0 +1,167 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.exception.ResourceNotFoundException;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-archiver;DB_CLOSE_DELAY=-1",
+        "orderflow.archive.batch-size=2"
+})
+@ActiveProfiles("test")
+@DisplayName("OrderArchiver Integration Tests")
+class OrderArchiverIntegrationTest {
+
+    private static final long FIRST_ID = 70_000_000L;
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customerId = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should move old completed orders and their items to the archive in batches")
+    void shouldArchiveOldCompletedOrders() {
+        LocalDateTime old = LocalDateTime.now().minusDays(120);
+        insertOrders(FIRST_ID, 5, OrderStatus.COMPLETED, old);
+        insertOrders(FIRST_ID + 5, 1, OrderStatus.COMPLETED, LocalDateTime.now());
+        insertOrders(FIRST_ID + 6, 1, OrderStatus.PROCESSING, old);
+
+        long archived = orderArchiver.archiveCompletedBefore(LocalDateTime.now().minusDays(90));
+
+        assertThat(archived).isEqualTo(5);
+        assertThat(orderRepository.findAll()).extracting(order -> order.getId())
+                .containsExactlyInAnyOrder(FIRST_ID + 5, FIRST_ID + 6);
+        assertThat(count("orders_archive")).isEqualTo(5);
+        assertThat(count("order_items_archive")).isEqualTo(5);
+        assertThat(count("order_items")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should serve archived orders from findById and keep them in the stats")
+    void shouldFindArchivedOrder() {
+        insertOrders(FIRST_ID, 1, OrderStatus.COMPLETED, LocalDateTime.now().minusDays(120));
+        OrderResponseDTO live = orderService.findById(FIRST_ID);
+        String liveTag = orderService.findETag(FIRST_ID);
+
+        orderArchiver.archiveCompletedBefore(LocalDateTime.now().minusDays(90));
+        orderStatsService.rebuild();
+
+        assertThat(orderRepository.existsById(FIRST_ID)).isFalse();
+        assertThat(orderService.findById(FIRST_ID)).isEqualTo(live);
+        assertThat(orderService.findETag(FIRST_ID)).isEqualTo(liveTag);
+        assertThat(orderService.findTaggedById(FIRST_ID).eTag()).isEqualTo(liveTag);
+        assertThat(orderStatsService.getStats(null, null).getByStatus())
+                .filteredOn(entry -> entry.getStatus() == OrderStatus.COMPLETED)
+                .singleElement()
+                .satisfies(entry -> assertThat(entry.getOrderCount()).isEqualTo(1));
+        assertThatThrownBy(() -> orderService.updateStatus(FIRST_ID, OrderStatus.PROCESSING))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Cannot change status of completed order");
+    }
+
+    @Test
+    @DisplayName("Should delete archived orders directly and with their customer")
+    void shouldDeleteArchivedOrders() {
+        insertOrders(FIRST_ID, 3, OrderStatus.COMPLETED, LocalDateTime.now().minusDays(120));
+        orderArchiver.archiveCompletedBefore(LocalDateTime.now().minusDays(90));
+
+        orderService.delete(FIRST_ID);
+
+        assertThatThrownBy(() -> orderService.findById(FIRST_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(count("orders_archive")).isEqualTo(2);
+
+        customerService.delete(customerId);
+
+        assertThat(count("orders_archive")).isZero();
+        assertThat(count("order_items_archive")).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COALESCE(SUM(order_count), 0) FROM order_stats", Long.class))
+                .isZero();
+    }
+
+    private void insertOrders(long firstId, int count, OrderStatus status, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Object[]> orders = new ArrayList<>(count);
+        List<Object[]> items = new ArrayList<>(count);
+        LongStream.range(firstId, firstId + count).forEach(id -> {
+            orders.add(new Object[]{id, customerId, BigDecimal.TEN, status.name(), timestamp, timestamp});
+            items.add(new Object[]{id, id, timestamp, "Product " + id, 1, BigDecimal.TEN, BigDecimal.TEN});
+        });
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, customer_id, total_amount, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO order_items (id, order_id, order_created_at, product_name, quantity, "
+                + "unit_price, subtotal) VALUES (?, ?, ?, ?, ?, ?, ?)", items);
+        orderStatsService.rebuild();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        jdbcTemplate.update("DELETE FROM order_items_archive");
+        jdbcTemplate.update("DELETE FROM orders_archive");
+        jdbcTemplate.update("DELETE FROM order_items");
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+        orderStatsService.rebuild();
+    }
+}
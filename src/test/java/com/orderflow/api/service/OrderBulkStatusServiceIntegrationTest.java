@@ -0,0 +1,184 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.model.dto.OrderBulkStatusRequestDTO;
+import com.orderflow.api.model.dto.OrderBulkStatusResponseDTO;
+import com.orderflow.api.model.dto.OrderStatusFilterDTO;
+import com.orderflow.api.model.dto.OrderStatusStatsDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("OrderBulkStatusService Integration Tests")
+class OrderBulkStatusServiceIntegrationTest {
+
+    @Autowired
+    private OrderBulkStatusService orderBulkStatusService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer customer;
+    private Customer otherCustomer;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        customer = customerRepository.save(customer("John Doe", "john@example.com", "12345678901"));
+        otherCustomer = customerRepository.save(customer("Jane Doe", "jane@example.com", "12345678902"));
+    }
+
+    @Test
+    @DisplayName("Should move allowed ids and report the rest as rejected")
+    void shouldMoveAllowedIdsAndReportRejected() {
+        List<Long> created = saveOrders(customer, OrderStatus.CREATED, 5);
+        List<Long> completed = saveOrders(customer, OrderStatus.COMPLETED, 3);
+        prepare();
+
+        List<Long> ids = new ArrayList<>(created);
+        ids.addAll(completed);
+        ids.add(-1L);
+
+        OrderBulkStatusResponseDTO response = orderBulkStatusService.updateStatus(OrderBulkStatusRequestDTO.builder()
+                .status(OrderStatus.PROCESSING)
+                .ids(ids)
+                .build());
+
+        assertThat(response.getMoved()).isEqualTo(5);
+        assertThat(response.getRejected()).isEqualTo(4);
+        assertThat(response.getRejectedIds()).containsExactlyElementsOf(
+                ids.subList(created.size(), ids.size()));
+        assertThat(orderRepository.countByStatus(OrderStatus.PROCESSING)).isEqualTo(5);
+        assertThat(orderRepository.countByStatus(OrderStatus.COMPLETED)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should move every order matching the filter across several chunks")
+    void shouldMoveFilteredOrdersAcrossChunks() {
+        saveOrders(customer, OrderStatus.CREATED, 2100);
+        saveOrders(otherCustomer, OrderStatus.CREATED, 10);
+        prepare();
+
+        OrderBulkStatusResponseDTO response = orderBulkStatusService.updateStatus(OrderBulkStatusRequestDTO.builder()
+                .status(OrderStatus.PROCESSING)
+                .filter(OrderStatusFilterDTO.builder().customerId(customer.getId()).build())
+                .build());
+
+        assertThat(response.getMoved()).isEqualTo(2100);
+        assertThat(orderRepository.countByStatus(OrderStatus.PROCESSING)).isEqualTo(2100);
+        assertThat(orderRepository.countByStatus(OrderStatus.CREATED)).isEqualTo(10);
+
+        List<OrderStatusStatsDTO> stats = orderStatsService.getStats(null, null).getByStatus();
+        assertThat(stats).filteredOn(entry -> entry.getStatus() == OrderStatus.PROCESSING)
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getOrderCount()).isEqualTo(2100);
+                    assertThat(entry.getTotalAmount()).isEqualByComparingTo("21000.00");
+                });
+    }
+
+    @Test
+    @DisplayName("Should apply the transition rules inside the filter")
+    void shouldApplyTransitionRulesInsideFilter() {
+        saveOrders(customer, OrderStatus.CREATED, 4);
+        saveOrders(customer, OrderStatus.PROCESSING, 2);
+        prepare();
+
+        OrderBulkStatusResponseDTO response = orderBulkStatusService.updateStatus(OrderBulkStatusRequestDTO.builder()
+                .status(OrderStatus.COMPLETED)
+                .filter(OrderStatusFilterDTO.builder().customerId(customer.getId()).build())
+                .build());
+
+        assertThat(response.getMoved()).isEqualTo(2);
+        assertThat(orderRepository.countByStatus(OrderStatus.CREATED)).isEqualTo(4);
+        assertThat(orderRepository.countByStatus(OrderStatus.COMPLETED)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should require exactly one of ids or filter")
+    void shouldRequireExactlyOneSelector() {
+        assertThatThrownBy(() -> orderBulkStatusService.updateStatus(OrderBulkStatusRequestDTO.builder()
+                .status(OrderStatus.PROCESSING)
+                .build()))
+                .isInstanceOf(BusinessException.class);
+
+        assertThatThrownBy(() -> orderBulkStatusService.updateStatus(OrderBulkStatusRequestDTO.builder()
+                .status(OrderStatus.PROCESSING)
+                .ids(List.of(1L))
+                .filter(new OrderStatusFilterDTO())
+                .build()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a filter without any criterion")
+    void shouldRejectEmptyFilter() {
+        saveOrders(customer, OrderStatus.CREATED, 3);
+        prepare();
+
+        assertThatThrownBy(() -> orderBulkStatusService.updateStatus(OrderBulkStatusRequestDTO.builder()
+                .status(OrderStatus.PROCESSING)
+                .filter(new OrderStatusFilterDTO())
+                .build()))
+                .isInstanceOf(BusinessException.class);
+        assertThat(orderRepository.countByStatus(OrderStatus.CREATED)).isEqualTo(3);
+    }
+
+    private void prepare() {
+        entityManager.flush();
+        entityManager.clear();
+        orderStatsService.rebuild();
+    }
+
+    private List<Long> saveOrders(Customer owner, OrderStatus status, int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(Order.builder()
+                    .customer(owner)
+                    .status(status)
+                    .totalAmount(BigDecimal.TEN)
+                    .build());
+        }
+        return orderRepository.saveAll(orders).stream().map(Order::getId).toList();
+    }
+
+    private Customer customer(String name, String email, String documentNumber) {
+        return Customer.builder()
+                .name(name)
+                .email(email)
+                .phone("+5511999999999")
+                .documentNumber(documentNumber)
+                .build();
+    }
+}
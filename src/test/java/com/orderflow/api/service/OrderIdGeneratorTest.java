@@ -0,0 +1,95 @@
+package com.orderflow.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderIdGenerator Tests")
+class OrderIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should hand out unique ids to concurrent callers")
+    void shouldGenerateUniqueIdsConcurrently() throws Exception {
+        OrderIdGenerator generator = new OrderIdGenerator(7, Clock.systemUTC());
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Callable<Void>> tasks = IntStream.range(0, 8).mapToObj(i -> (Callable<Void>) () -> {
+                for (int n = 0; n < 20_000; n++) {
+                    ids.add(generator.nextId());
+                }
+                return null;
+            }).toList();
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        }
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    @DisplayName("Should embed the node id so different nodes never collide")
+    void shouldEmbedNodeId() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC);
+
+        long first = new OrderIdGenerator(1, clock).nextId();
+        long second = new OrderIdGenerator(2, clock).nextId();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat((first >>> OrderIdGenerator.SEQUENCE_BITS) & OrderIdGenerator.MAX_NODE_ID).isEqualTo(1);
+        assertThat((second >>> OrderIdGenerator.SEQUENCE_BITS) & OrderIdGenerator.MAX_NODE_ID).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when the clock steps back")
+    void shouldStayMonotonicWhenClockStepsBack() {
+        AtomicLong now = new AtomicLong(Instant.parse("2025-03-01T00:00:00Z").toEpochMilli());
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now.get());
+            }
+        };
+        OrderIdGenerator generator = new OrderIdGenerator(0, clock);
+
+        long before = generator.nextId();
+        now.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("Should reject node ids that do not fit in ten bits")
+    void shouldRejectOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new OrderIdGenerator(OrderIdGenerator.MAX_NODE_ID + 1, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
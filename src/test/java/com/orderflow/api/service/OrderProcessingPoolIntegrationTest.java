@@ -0,0 +1,174 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.repository.OrderStatusSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-processing;DB_CLOSE_DELAY=-1",
+        "orderflow.processing.batch-size=50"
+})
+@ActiveProfiles("test")
+@DisplayName("OrderProcessingPool Integration Tests")
+class OrderProcessingPoolIntegrationTest {
+
+    private static final long FIRST_ID = 60_000_000L;
+
+    @Autowired
+    private OrderProcessingPool orderProcessingPool;
+
+    @Autowired
+    private ScriptedOrderProcessor processor;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+        processor.reset(order -> OrderStatus.COMPLETED);
+
+        customerId = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        orderRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should process every CREATED order exactly once across workers")
+    void shouldProcessEveryCreatedOrderOnce() {
+        insertOrders(FIRST_ID, 1000, OrderStatus.CREATED);
+        insertOrders(FIRST_ID + 1000, 10, OrderStatus.PROCESSING);
+
+        long processed = orderProcessingPool.processPending(8);
+
+        assertThat(processed).isEqualTo(1000);
+        assertThat(processor.calls()).hasSize(1000).allSatisfy((id, calls) -> assertThat(calls.get()).isEqualTo(1));
+        assertThat(orderRepository.countByStatus(OrderStatus.CREATED)).isZero();
+        assertThat(orderRepository.countByStatus(OrderStatus.PROCESSING)).isEqualTo(10);
+        assertThat(orderRepository.countByStatus(OrderStatus.COMPLETED)).isEqualTo(1000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Long.class)).isEqualTo(2000);
+        assertThat(orderStatsService.getStats(null, null).getByStatus())
+                .filteredOn(entry -> entry.getStatus() == OrderStatus.COMPLETED)
+                .singleElement()
+                .satisfies(entry -> assertThat(entry.getOrderCount()).isEqualTo(1000));
+    }
+
+    @Test
+    @DisplayName("Should leave orders in PROCESSING when the step does not complete them")
+    void shouldLeaveOrdersInProcessing() {
+        insertOrders(FIRST_ID, 100, OrderStatus.CREATED);
+        processor.reset(order -> order.id() % 2 == 0 ? OrderStatus.COMPLETED : OrderStatus.PROCESSING);
+
+        orderProcessingPool.processPending(2);
+
+        assertThat(orderRepository.countByStatus(OrderStatus.PROCESSING)).isEqualTo(50);
+        assertThat(orderRepository.countByStatus(OrderStatus.COMPLETED)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should roll the batch back to CREATED when the step fails")
+    void shouldRollBackWhenStepFails() {
+        insertOrders(FIRST_ID, 20, OrderStatus.CREATED);
+        processor.reset(order -> {
+            throw new IllegalStateException("payment gateway down");
+        });
+
+        assertThatThrownBy(() -> orderProcessingPool.processPending(1))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(orderRepository.countByStatus(OrderStatus.CREATED)).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Long.class)).isZero();
+    }
+
+    private void insertOrders(long firstId, int count, OrderStatus status) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        LongStream.range(firstId, firstId + count).forEach(id ->
+                rows.add(new Object[]{id, customerId, BigDecimal.TEN, status.name(), now, now}));
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, customer_id, total_amount, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+        orderStatsService.rebuild();
+    }
+
+    static class ScriptedOrderProcessor implements OrderProcessor {
+
+        private final Map<Long, AtomicInteger> calls = new ConcurrentHashMap<>();
+        private volatile Function<OrderStatusSnapshot, OrderStatus> step;
+
+        void reset(Function<OrderStatusSnapshot, OrderStatus> newStep) {
+            calls.clear();
+            step = newStep;
+        }
+
+        Map<Long, AtomicInteger> calls() {
+            return calls;
+        }
+
+        @Override
+        public OrderStatus process(OrderStatusSnapshot order) {
+            assertThat(order.status()).isEqualTo(OrderStatus.PROCESSING);
+            calls.computeIfAbsent(order.id(), id -> new AtomicInteger()).incrementAndGet();
+            return step.apply(order);
+        }
+    }
+
+    @TestConfiguration
+    static class ProcessorConfig {
+
+        @Bean
+        @Primary
+        ScriptedOrderProcessor scriptedOrderProcessor() {
+            return new ScriptedOrderProcessor();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.model.dto.CursorPageResponseDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.Order;
+import com.orderflow.api.model.entity.OrderItem;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("OrderService Integration Tests")
+class OrderServiceIntegrationTest {
+
+    private static final long STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            customers.add(customerRepository.save(Customer.builder()
+                    .name("Customer " + i)
+                    .email("customer" + i + "@example.com")
+                    .phone("+551199999999" + i)
+                    .documentNumber("1234567890" + i)
+                    .build()));
+        }
+
+        for (int i = 0; i < 30; i++) {
+            Order order = Order.builder()
+                    .customer(customers.get(i % customers.size()))
+                    .status(i % 2 == 0 ? OrderStatus.CREATED : OrderStatus.PROCESSING)
+                    .totalAmount(BigDecimal.ZERO)
+                    .build();
+            for (int j = 0; j < 3; j++) {
+                OrderItem item = OrderItem.builder()
+                        .productName("Product " + j)
+                        .quantity(j + 1)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build();
+                item.calculateSubtotal();
+                order.addItem(item);
+            }
+            orderRepository.save(order);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should record service timings and status transition counters")
+    void shouldRecordServiceTimingsAndTransitions() {
+        Long orderId = orderRepository.findAll().stream()
+                .filter(order -> order.getStatus() == OrderStatus.CREATED)
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        double transitionsBefore = meterRegistry.counter(BusinessMetrics.STATUS_TRANSITIONS,
+                "from", "CREATED", "to", "PROCESSING").count();
+
+        orderService.updateStatus(orderId, OrderStatus.PROCESSING);
+
+        assertThat(meterRegistry.counter(BusinessMetrics.STATUS_TRANSITIONS,
+                "from", "CREATED", "to", "PROCESSING").count()).isEqualTo(transitionsBefore + 1);
+        assertThat(meterRegistry.get("orderflow.service")
+                .tag("class", OrderService.class.getName())
+                .tag("method", "updateStatus")
+                .timer()
+                .count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should list all orders with a fixed number of statements")
+    void shouldListAllOrdersWithFixedStatementCount() {
+        Page<OrderResponseDTO> page = orderService.findAll(
+                CreatedRange.ALL, PageRequest.of(0, 20, Sort.by("createdAt")));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).allSatisfy(order -> {
+            assertThat(order.getCustomerName()).startsWith("Customer");
+            assertThat(order.getItems()).hasSize(3);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    @DisplayName("Should keep the statement count independent of page size")
+    void shouldKeepStatementCountIndependentOfPageSize() {
+        orderService.findAll(CreatedRange.ALL, PageRequest.of(0, 5, Sort.by("createdAt")));
+        long smallPage = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        orderService.findAll(CreatedRange.ALL, PageRequest.of(0, 25, Sort.by("createdAt")));
+        long largePage = statistics.getPrepareStatementCount();
+
+        assertThat(smallPage).isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(largePage).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    @DisplayName("Should load a tagged order with its customer and items in one statement")
+    void shouldFindTaggedOrderInOneStatement() {
+        Long orderId = orderRepository.findAll(Sort.by("id")).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        TaggedOrder tagged = orderService.findTaggedById(orderId);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(tagged.order().getItems()).hasSize(3);
+        assertThat(tagged.eTag()).isEqualTo(orderService.findETag(orderId));
+    }
+
+    @Test
+    @DisplayName("Should keep the requested sort order across both fetch phases")
+    void shouldKeepRequestedSortOrder() {
+        Page<OrderResponseDTO> page = orderService.findAll(
+                CreatedRange.ALL, PageRequest.of(0, 30, Sort.by(Sort.Direction.DESC, "id")));
+
+        List<Long> ids = page.getContent().stream().map(OrderResponseDTO::getId).toList();
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("Should list orders by customer and status with a fixed number of statements")
+    void shouldListFilteredOrdersWithFixedStatementCount() {
+        Long customerId = customerRepository.findAll().get(0).getId();
+
+        Page<OrderResponseDTO> byCustomer = orderService.findByCustomerId(
+                customerId, CreatedRange.ALL, PageRequest.of(0, 20));
+        assertThat(byCustomer.getContent()).hasSize(6);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(STATEMENTS_PER_PAGE);
+
+        entityManager.clear();
+        statistics.clear();
+
+        Page<OrderResponseDTO> byStatus = orderService.findByStatus(
+                OrderStatus.CREATED, CreatedRange.ALL, PageRequest.of(0, 10));
+        assertThat(byStatus.getContent()).hasSize(10);
+        assertThat(byStatus.getContent()).allSatisfy(order ->
+                assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    @DisplayName("Should only list orders created inside the requested range")
+    void shouldListOrdersInsideCreatedRange() {
+        List<Long> januaryIds = orderRepository.findAll(Sort.by("id")).stream().limit(10).map(Order::getId).toList();
+        LocalDateTime january = LocalDateTime.of(2024, 1, 15, 12, 0);
+        entityManager.createNativeQuery("UPDATE orders SET created_at = :createdAt WHERE id IN (:ids)")
+                .setParameter("createdAt", january)
+                .setParameter("ids", januaryIds)
+                .executeUpdate();
+        entityManager.createNativeQuery("UPDATE order_items SET order_created_at = :createdAt WHERE order_id IN (:ids)")
+                .setParameter("createdAt", january)
+                .setParameter("ids", januaryIds)
+                .executeUpdate();
+        entityManager.clear();
+
+        CreatedRange range = CreatedRange.of(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        Page<OrderResponseDTO> page = orderService.findAll(range, PageRequest.of(0, 20, Sort.by("id")));
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getContent()).extracting(OrderResponseDTO::getId).containsExactlyElementsOf(januaryIds);
+
+        assertThat(orderService.findByStatusSlice(OrderStatus.CREATED, range, PageRequest.of(0, 20), CountMode.EXACT)
+                .getTotalElements()).isEqualTo(5);
+
+        CursorPageResponseDTO<OrderResponseDTO> first = orderService.findAllAfter(range, null, 6);
+        CursorPageResponseDTO<OrderResponseDTO> second = orderService.findAllAfter(range, first.getNextCursor(), 6);
+        assertThat(first.getContent()).hasSize(6);
+        assertThat(second.getContent()).hasSize(4);
+        assertThat(second.getNextCursor()).isNull();
+
+        assertThat(orderService.findAll(CreatedRange.of(null, LocalDateTime.of(2024, 1, 1, 0, 0)),
+                PageRequest.of(0, 20)).getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should export orders as NDJSON with one query per chunk")
+    void shouldExportOrdersAsNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        orderExportService.export(OrderExportService.Format.NDJSON, null, null, CreatedRange.ALL, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(30);
+        List<OrderResponseDTO> orders = new ArrayList<>();
+        for (String line : lines) {
+            orders.add(objectMapper.readValue(line, OrderResponseDTO.class));
+        }
+        assertThat(orders).extracting(OrderResponseDTO::getId).isSorted();
+        assertThat(orders).allSatisfy(order -> assertThat(order.getItems()).hasSize(3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should export filtered orders as CSV with one row per item")
+    void shouldExportFilteredOrdersAsCsv() throws Exception {
+        Long customerId = customerRepository.findAll().get(0).getId();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        orderExportService.export(OrderExportService.Format.CSV, OrderStatus.CREATED, customerId, CreatedRange.ALL, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(0)).startsWith("order_id,customer_id,customer_name,status");
+        assertThat(lines).hasSize(1 + 3 * 3);
+        assertThat(lines.subList(1, lines.size())).allSatisfy(line ->
+                assertThat(line).contains("," + customerId + ",Customer 0,CREATED,"));
+    }
+}
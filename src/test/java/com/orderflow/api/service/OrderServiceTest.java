@@ -2,6 +2,8 @@ package com.orderflow.api.service;
 
 import com.orderflow.api.exception.BusinessException;
 import com.orderflow.api.exception.ResourceNotFoundException;
+import com.orderflow.api.model.dto.CustomerResponseDTO;
+import com.orderflow.api.model.dto.OrderBatchResponseDTO;
 import com.orderflow.api.model.dto.OrderItemRequestDTO;
 import com.orderflow.api.model.dto.OrderRequestDTO;
 import com.orderflow.api.model.dto.OrderResponseDTO;
@@ -10,7 +12,10 @@ import com.orderflow.api.model.entity.Order;
 import com.orderflow.api.model.entity.OrderItem;
 import com.orderflow.api.model.entity.OrderStatus;
 import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderArchiveRepository;
 import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.repository.OrderStatusBulkRepository;
+import com.orderflow.api.repository.OrderStatusSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,9 +29,13 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,10 +48,29 @@ class OrderServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
+
+    @Mock
+    private OrderStatsService orderStatsService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OrderStatusBulkRepository orderStatusBulkRepository;
+
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
     @InjectMocks
     private OrderService orderService;
 
     private Customer testCustomer;
+    private CustomerResponseDTO testCustomerDTO;
     private Order testOrder;
     private OrderRequestDTO validOrderRequest;
 
@@ -58,6 +86,11 @@ class OrderServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        testCustomerDTO = CustomerResponseDTO.builder()
+                .id(1L)
+                .name("John Doe")
+                .build();
+
         OrderItem item1 = OrderItem.builder()
                 .id(1L)
                 .productName("Product A")
@@ -108,7 +141,8 @@ class OrderServiceTest {
     @Test
     @DisplayName("Should create order successfully and calculate total amount")
     void shouldCreateOrderSuccessfully() {
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(customerService.findById(1L)).thenReturn(testCustomerDTO);
+        when(customerRepository.getReferenceById(1L)).thenReturn(testCustomer);
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
         OrderResponseDTO response = orderService.create(validOrderRequest);
@@ -125,7 +159,7 @@ class OrderServiceTest {
     @Test
     @DisplayName("Should throw exception when customer not found on order creation")
     void shouldThrowExceptionWhenCustomerNotFoundOnCreate() {
-        when(customerRepository.findById(999L)).thenReturn(Optional.empty());
+        when(customerService.findById(999L)).thenThrow(new ResourceNotFoundException("Customer", 999L));
 
         OrderRequestDTO invalidRequest = OrderRequestDTO.builder()
                 .customerId(999L)
@@ -142,7 +176,8 @@ class OrderServiceTest {
     @Test
     @DisplayName("Should calculate total amount correctly with multiple items")
     void shouldCalculateTotalAmountCorrectly() {
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(customerService.findById(1L)).thenReturn(testCustomerDTO);
+        when(customerRepository.getReferenceById(1L)).thenReturn(testCustomer);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             order.setId(1L);
@@ -160,10 +195,34 @@ class OrderServiceTest {
         assertThat(item2Total).isEqualByComparingTo(new BigDecimal("150.00"));
     }
 
+    @Test
+    @DisplayName("Should create orders in batch resolving each customer once")
+    void shouldCreateOrdersInBatch() {
+        OrderRequestDTO unknownCustomerRequest = OrderRequestDTO.builder()
+                .customerId(999L)
+                .items(validOrderRequest.getItems())
+                .build();
+
+        when(customerRepository.findAllById(anySet())).thenReturn(List.of(testCustomer));
+
+        OrderBatchResponseDTO response = orderService.createBatch(
+                List.of(validOrderRequest, unknownCustomerRequest, validOrderRequest));
+
+        assertThat(response.getReceived()).isEqualTo(3);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getTotalAmount()).isEqualByComparingTo(new BigDecimal("250.00"));
+        assertThat(response.getResults().get(1).isCreated()).isFalse();
+        assertThat(response.getResults().get(1).getMessage()).contains("Customer not found");
+
+        verify(customerRepository).findAllById(Set.of(1L, 999L));
+        verify(orderRepository).saveAll(argThat((List<Order> orders) -> orders.size() == 2));
+    }
+
     @Test
     @DisplayName("Should find order by id successfully")
     void shouldFindOrderByIdSuccessfully() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testOrder));
 
         OrderResponseDTO response = orderService.findById(1L);
 
@@ -171,69 +230,150 @@ class OrderServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getCustomerName()).isEqualTo("John Doe");
 
-        verify(orderRepository).findById(1L);
+        verify(orderRepository).findWithDetailsById(1L);
     }
 
     @Test
     @DisplayName("Should throw exception when order not found")
     void shouldThrowExceptionWhenOrderNotFound() {
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithDetailsById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> orderService.findById(999L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Order not found");
     }
 
+    @Test
+    @DisplayName("Should fall back to the archive when the order is not in the live table")
+    void shouldFindArchivedOrderById() {
+        LocalDateTime createdAt = LocalDateTime.now().minusMonths(6);
+        when(orderRepository.findWithDetailsById(1L)).thenReturn(Optional.empty());
+        when(orderArchiveRepository.findById(1L)).thenReturn(Optional.of(new OrderArchiveRepository.ArchivedOrder(
+                1L, 1L, "John Doe", new BigDecimal("100.00"), OrderStatus.COMPLETED, createdAt, createdAt,
+                3L, createdAt, List.of(new OrderArchiveRepository.ArchivedItem(10L, "Product A", 2, new BigDecimal("50.00"),
+                        new BigDecimal("100.00"))))));
+
+        OrderResponseDTO response = orderService.findById(1L);
+
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(response.getCustomerName()).isEqualTo("John Doe");
+        assertThat(response.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getProductName()).isEqualTo("Product A"));
+    }
+
+    @Test
+    @DisplayName("Should reject a status change on an archived order as completed")
+    void shouldRejectStatusChangeOnArchivedOrder() {
+        when(orderRepository.findStatusSnapshotById(1L)).thenReturn(Optional.empty());
+        when(orderArchiveRepository.findStatusSnapshotById(1L)).thenReturn(Optional.of(snapshot(OrderStatus.COMPLETED)));
+
+        assertThatThrownBy(() -> orderService.changeStatus(1L, OrderStatus.PROCESSING))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Cannot change status of completed order");
+    }
+
     @Test
     @DisplayName("Should update order status from CREATED to PROCESSING")
     void shouldUpdateStatusFromCreatedToProcessing() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderRepository.findStatusSnapshotById(1L)).thenReturn(Optional.of(snapshot(OrderStatus.CREATED)));
+        when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.CREATED), eq(OrderStatus.PROCESSING), any()))
+                .thenReturn(1);
+        when(orderRepository.findWithDetailsInIdOrder(List.of(1L))).thenReturn(List.of(testOrder));
 
         OrderResponseDTO response = orderService.updateStatus(1L, OrderStatus.PROCESSING);
 
         assertThat(response).isNotNull();
-        verify(orderRepository).save(any(Order.class));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(businessMetrics).statusTransition(OrderStatus.CREATED, OrderStatus.PROCESSING);
+        verify(orderStatsService).recordStatusChange(snapshot(OrderStatus.CREATED), OrderStatus.PROCESSING);
     }
 
     @Test
     @DisplayName("Should update order status from PROCESSING to COMPLETED")
     void shouldUpdateStatusFromProcessingToCompleted() {
-        testOrder.setStatus(OrderStatus.PROCESSING);
+        when(orderRepository.findStatusSnapshotById(1L)).thenReturn(Optional.of(snapshot(OrderStatus.PROCESSING)));
+        when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.PROCESSING), eq(OrderStatus.COMPLETED), any()))
+                .thenReturn(1);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        orderService.changeStatus(1L, OrderStatus.COMPLETED);
 
-        OrderResponseDTO response = orderService.updateStatus(1L, OrderStatus.COMPLETED);
+        verify(businessMetrics).statusTransition(OrderStatus.PROCESSING, OrderStatus.COMPLETED);
+        verify(orderRepository, never()).findWithDetailsInIdOrder(any());
+    }
 
-        assertThat(response).isNotNull();
-        verify(orderRepository).save(any(Order.class));
+    @Test
+    @DisplayName("Should re-validate against the new status when a concurrent update wins")
+    void shouldRevalidateWhenConcurrentUpdateWins() {
+        when(orderRepository.findStatusSnapshotById(1L))
+                .thenReturn(Optional.of(snapshot(OrderStatus.PROCESSING)))
+                .thenReturn(Optional.of(snapshot(OrderStatus.COMPLETED)));
+        when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.PROCESSING), eq(OrderStatus.COMPLETED), any()))
+                .thenReturn(0);
+
+        assertThatThrownBy(() -> orderService.changeStatus(1L, OrderStatus.COMPLETED))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Cannot change status of completed order");
+
+        verify(businessMetrics, never()).statusTransition(any(), any());
+        verifyNoInteractions(orderStatsService);
     }
 
     @Test
     @DisplayName("Should throw exception when trying to change status of completed order")
     void shouldThrowExceptionWhenChangingCompletedOrderStatus() {
-        testOrder.setStatus(OrderStatus.COMPLETED);
-
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findStatusSnapshotById(1L)).thenReturn(Optional.of(snapshot(OrderStatus.COMPLETED)));
 
         assertThatThrownBy(() -> orderService.updateStatus(1L, OrderStatus.PROCESSING))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Cannot change status of completed order");
 
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
+        verify(businessMetrics).rejection("completed_order_immutable");
+        verify(businessMetrics, never()).statusTransition(any(), any());
     }
 
     @Test
     @DisplayName("Should throw exception when trying to go from CREATED directly to COMPLETED")
     void shouldThrowExceptionWhenSkippingProcessingStatus() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findStatusSnapshotById(1L)).thenReturn(Optional.of(snapshot(OrderStatus.CREATED)));
 
         assertThatThrownBy(() -> orderService.updateStatus(1L, OrderStatus.COMPLETED))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Order must be in PROCESSING status before completion");
 
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when updating status of non-existent order")
+    void shouldThrowExceptionWhenUpdatingStatusOfNonExistentOrder() {
+        when(orderRepository.findStatusSnapshotById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.updateStatus(999L, OrderStatus.PROCESSING))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should move locked orders with one update")
+    void shouldMoveLockedOrders() {
+        List<OrderStatusSnapshot> moved = orderService.changeStatusOfLocked(
+                List.of(snapshot(OrderStatus.CREATED)), OrderStatus.PROCESSING);
+
+        assertThat(moved).containsExactly(snapshot(OrderStatus.PROCESSING));
+        verify(orderStatusBulkRepository).updateStatus(eq(List.of(1L)), eq(OrderStatus.PROCESSING), any());
+        verify(orderStatsService).recordStatusChanges(List.of(snapshot(OrderStatus.CREATED)), OrderStatus.PROCESSING);
+        verify(businessMetrics).statusTransitions(OrderStatus.CREATED, OrderStatus.PROCESSING, 1L);
+    }
+
+    @Test
+    @DisplayName("Should reject locked orders that break the transition rules")
+    void shouldRejectLockedOrdersBreakingRules() {
+        assertThatThrownBy(() -> orderService.changeStatusOfLocked(
+                List.of(snapshot(OrderStatus.CREATED)), OrderStatus.COMPLETED))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Order must be in PROCESSING status before completion");
+
+        verifyNoInteractions(orderStatusBulkRepository, orderStatsService, outboxService);
     }
 
     @Test
@@ -246,6 +386,7 @@ class OrderServiceTest {
                 .doesNotThrowAnyException();
 
         verify(orderRepository).deleteById(1L);
+        verify(orderStatsService).recordOrderDeleted(1L);
     }
 
     @Test
@@ -258,4 +399,8 @@ class OrderServiceTest {
 
         verify(orderRepository, never()).deleteById(anyLong());
     }
-}
\ No newline at end of file
+
+    private OrderStatusSnapshot snapshot(OrderStatus status) {
+        return new OrderStatusSnapshot(testOrder.getId(), status, testOrder.getCreatedAt(), testOrder.getTotalAmount());
+    }
+}
@@ -0,0 +1,157 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.model.dto.OrderDailyStatsDTO;
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.dto.OrderStatsResponseDTO;
+import com.orderflow.api.model.dto.OrderStatusStatsDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("OrderStats Integration Tests")
+class OrderStatsIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        orderStatsService.rebuild();
+
+        customer = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should track counts and totals per status across the order lifecycle")
+    void shouldTrackCountsAndTotalsPerStatus() {
+        OrderResponseDTO first = orderService.create(orderRequest("10.00"));
+        OrderResponseDTO second = orderService.create(orderRequest("20.00"));
+        orderService.create(orderRequest("30.00"));
+
+        orderService.updateStatus(first.getId(), OrderStatus.PROCESSING);
+        orderService.updateStatus(first.getId(), OrderStatus.COMPLETED);
+        orderService.delete(second.getId());
+
+        OrderStatsResponseDTO stats = orderStatsService.getStats(null, null);
+
+        assertStatus(stats, OrderStatus.CREATED, 1, "30.00");
+        assertStatus(stats, OrderStatus.PROCESSING, 0, "0.00");
+        assertStatus(stats, OrderStatus.COMPLETED, 1, "10.00");
+        assertThat(stats.getDaily()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should match the rebuilt figures after incremental updates")
+    void shouldMatchRebuiltFigures() {
+        for (int i = 1; i <= 5; i++) {
+            OrderResponseDTO order = orderService.create(orderRequest(i + ".00"));
+            if (i % 2 == 0) {
+                orderService.updateStatus(order.getId(), OrderStatus.PROCESSING);
+            }
+        }
+        orderService.createBatch(List.of(orderRequest("7.50"), orderRequest("2.50")));
+
+        OrderStatsResponseDTO incremental = orderStatsService.getStats(null, null);
+        orderStatsService.rebuild();
+        OrderStatsResponseDTO rebuilt = orderStatsService.getStats(null, null);
+
+        for (OrderStatusStatsDTO expected : rebuilt.getByStatus()) {
+            assertStatus(incremental, expected.getStatus(), expected.getOrderCount(), expected.getTotalAmount().toPlainString());
+        }
+        assertStatus(rebuilt, OrderStatus.CREATED, 5, "19.00");
+        assertStatus(rebuilt, OrderStatus.PROCESSING, 2, "6.00");
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted customer's orders from the stats")
+    void shouldRemoveDeletedCustomerOrders() {
+        orderService.create(orderRequest("10.00"));
+        orderService.create(orderRequest("15.00"));
+        entityManager.flush();
+        entityManager.clear();
+
+        customerService.delete(customer.getId());
+
+        assertStatus(orderStatsService.getStats(null, null), OrderStatus.CREATED, 0, "0.00");
+    }
+
+    @Test
+    @DisplayName("Should return a daily breakdown for the requested range")
+    void shouldReturnDailyBreakdown() {
+        orderService.create(orderRequest("10.00"));
+        orderService.create(orderRequest("5.00"));
+        LocalDate today = orderRepository.findAll().get(0).getCreatedAt().toLocalDate();
+
+        List<OrderDailyStatsDTO> daily = orderStatsService.getStats(today.minusDays(1), today).getDaily();
+
+        assertThat(daily).hasSize(1);
+        assertThat(daily.get(0).getDate()).isEqualTo(today);
+        assertThat(daily.get(0).getStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(daily.get(0).getOrderCount()).isEqualTo(2);
+        assertThat(daily.get(0).getTotalAmount()).isEqualByComparingTo("15.00");
+    }
+
+    private void assertStatus(OrderStatsResponseDTO stats, OrderStatus status, long count, String amount) {
+        OrderStatusStatsDTO entry = stats.getByStatus().stream()
+                .filter(candidate -> candidate.getStatus() == status)
+                .findFirst()
+                .orElseThrow();
+        assertThat(entry.getOrderCount()).as("%s count", status).isEqualTo(count);
+        assertThat(entry.getTotalAmount()).as("%s amount", status).isEqualByComparingTo(amount);
+    }
+
+    private OrderRequestDTO orderRequest(String unitPrice) {
+        return OrderRequestDTO.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product A")
+                        .quantity(1)
+                        .unitPrice(new BigDecimal(unitPrice))
+                        .build()))
+                .build();
+    }
+}
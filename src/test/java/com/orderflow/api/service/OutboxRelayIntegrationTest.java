@@ -0,0 +1,132 @@
+package com.orderflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderflow.api.model.dto.OrderEventDTO;
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderEventType;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import com.orderflow.api.repository.OrderRepository;
+import com.orderflow.api.repository.OutboxMessage;
+import com.orderflow.api.repository.OutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("OutboxRelay Integration Tests")
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        sink.drain();
+
+        customer = customerRepository.save(Customer.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("+5511999999999")
+                .documentNumber("12345678901")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should record order changes in the outbox and relay them in order")
+    void shouldRelayOrderEventsInOrder() throws Exception {
+        OrderResponseDTO order = orderService.create(OrderRequestDTO.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product A")
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("50.00"))
+                        .build()))
+                .build());
+        orderService.changeStatus(order.getId(), OrderStatus.PROCESSING);
+        orderService.delete(order.getId());
+
+        assertThat(outboxRepository.count()).isEqualTo(3);
+
+        assertThat(outboxRelay.relayPending()).isEqualTo(3);
+
+        List<OutboxMessage> messages = sink.drain();
+        assertThat(messages).extracting(OutboxMessage::eventType).containsExactly(
+                OrderEventType.ORDER_CREATED.name(),
+                OrderEventType.ORDER_STATUS_CHANGED.name(),
+                OrderEventType.ORDER_DELETED.name());
+        assertThat(messages).extracting(OutboxMessage::aggregateId).containsOnly(order.getId());
+
+        OrderEventDTO statusChanged = objectMapper.readValue(messages.get(1).payload(), OrderEventDTO.class);
+        assertThat(statusChanged.getPreviousStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(statusChanged.getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should publish every message exactly once with parallel workers")
+    void shouldPublishEachMessageOnceWithParallelWorkers() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = new ArrayList<>();
+        LongStream.rangeClosed(1, 5000).forEach(id ->
+                messages.add(new OutboxMessage(null, OutboxService.ORDER_AGGREGATE, id, "TEST", "{}", now)));
+        outboxRepository.insertAll(messages);
+
+        long relayed = outboxRelay.relayPending(4);
+        relayed += outboxRelay.relayPending(1);
+
+        assertThat(relayed).isEqualTo(5000);
+        assertThat(sink.drain()).extracting(OutboxMessage::aggregateId).doesNotHaveDuplicates().hasSize(5000);
+        assertThat(outboxRepository.count()).isZero();
+    }
+}
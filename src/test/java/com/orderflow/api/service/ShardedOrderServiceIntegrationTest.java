@@ -0,0 +1,215 @@
+package com.orderflow.api.service;
+
+import com.orderflow.api.config.OrderShards;
+import com.orderflow.api.exception.BusinessException;
+import com.orderflow.api.exception.ResourceNotFoundException;
+import com.orderflow.api.model.dto.OrderItemRequestDTO;
+import com.orderflow.api.model.dto.OrderRequestDTO;
+import com.orderflow.api.model.dto.OrderResponseDTO;
+import com.orderflow.api.model.entity.Customer;
+import com.orderflow.api.model.entity.OrderStatus;
+import com.orderflow.api.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharded-orders;DB_CLOSE_DELAY=-1",
+        "orderflow.sharding.enabled=true",
+        "orderflow.sharding.urls=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1",
+        "orderflow.sharding.pool-size=4",
+        "orderflow.sharding.node-id=1"
+})
+@ActiveProfiles("test")
+@DisplayName("ShardedOrderService Integration Tests")
+class ShardedOrderServiceIntegrationTest {
+
+    private static final Comparator<OrderResponseDTO> BY_CREATED_AT =
+            Comparator.comparing(OrderResponseDTO::getCreatedAt).thenComparing(OrderResponseDTO::getId);
+
+    @Autowired
+    private ShardedOrderService shardedOrderService;
+
+    @Autowired
+    private OrderShards orderShards;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private final List<Customer> customers = new ArrayList<>();
+    private final List<OrderResponseDTO> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        // Add customers until every shard owns at least one, so the merge sees all of them.
+        Set<String> used = new HashSet<>();
+        for (int i = 0; used.size() < orderShards.all().size() && i < 100; i++) {
+            Customer customer = customerRepository.save(Customer.builder()
+                    .name("Customer " + i)
+                    .email("customer" + i + "@example.com")
+                    .phone("+5511999999999")
+                    .documentNumber(String.format("%011d", i))
+                    .build());
+            customers.add(customer);
+            used.add(orderShards.forCustomer(customer.getId()).name());
+        }
+        for (int round = 0; round < 3; round++) {
+            for (Customer customer : customers) {
+                created.add(shardedOrderService.create(request(customer.getId(), round + 1)));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should store every order of a customer on that customer's shard")
+    void shouldKeepCustomerOrdersOnOneShard() {
+        for (Customer customer : customers) {
+            OrderShards.Shard owner = orderShards.forCustomer(customer.getId());
+            for (OrderShards.Shard shard : orderShards.all()) {
+                long expected = shard == owner ? 3 : 0;
+                assertThat(countOrders(shard, customer.getId())).isEqualTo(expected);
+            }
+        }
+
+        Page<OrderResponseDTO> page = shardedOrderService.findByCustomerId(customers.get(0).getId(),
+                CreatedRange.ALL, PageRequest.of(0, 10, Sort.by("createdAt")));
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).allSatisfy(order -> {
+            assertThat(order.getCustomerName()).isEqualTo(customers.get(0).getName());
+            assertThat(order.getItems()).hasSize(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Should merge pages from all shards in createdAt order")
+    void shouldMergePagesAcrossShards() {
+        List<OrderResponseDTO> ascending = created.stream().sorted(BY_CREATED_AT).toList();
+        List<OrderResponseDTO> descending = created.stream().sorted(BY_CREATED_AT.reversed()).toList();
+
+        Page<OrderResponseDTO> first = shardedOrderService.findAll(CreatedRange.ALL,
+                PageRequest.of(0, 4, Sort.by("createdAt")));
+        Page<OrderResponseDTO> second = shardedOrderService.findAll(CreatedRange.ALL,
+                PageRequest.of(1, 4, Sort.by("createdAt")));
+        Page<OrderResponseDTO> newest = shardedOrderService.findAll(CreatedRange.ALL,
+                PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(first.getTotalElements()).isEqualTo(created.size());
+        assertThat(first.getContent()).extracting(OrderResponseDTO::getId)
+                .containsExactlyElementsOf(ascending.subList(0, 4).stream().map(OrderResponseDTO::getId).toList());
+        assertThat(second.getContent()).extracting(OrderResponseDTO::getId)
+                .containsExactlyElementsOf(ascending.subList(4, 8).stream().map(OrderResponseDTO::getId).toList());
+        assertThat(newest.getContent()).extracting(OrderResponseDTO::getId)
+                .containsExactlyElementsOf(descending.subList(0, 4).stream().map(OrderResponseDTO::getId).toList());
+        assertThat(first.getContent()).allSatisfy(order -> assertThat(order.getItems()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should find, update and delete an order without knowing its shard")
+    void shouldChangeOrdersById() {
+        OrderResponseDTO order = created.get(created.size() - 1);
+
+        OrderResponseDTO processing = shardedOrderService.updateStatus(order.getId(), OrderStatus.PROCESSING);
+
+        assertThat(processing.getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(shardedOrderService.findById(order.getId()).getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        Page<OrderResponseDTO> byStatus = shardedOrderService.findByStatus(OrderStatus.PROCESSING,
+                CreatedRange.ALL, PageRequest.of(0, 10, Sort.by("createdAt")));
+        assertThat(byStatus.getContent()).extracting(OrderResponseDTO::getId).containsExactly(order.getId());
+
+        shardedOrderService.delete(order.getId());
+
+        assertThatThrownBy(() -> shardedOrderService.findById(order.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should delete a customer's orders from its shard along with the customer")
+    void shouldDeleteShardedOrdersWithCustomer() {
+        Customer deleted = customers.get(0);
+        Customer kept = customers.get(1);
+        OrderShards.Shard shard = orderShards.forCustomer(deleted.getId());
+
+        customerService.delete(deleted.getId());
+
+        assertThat(customerRepository.existsById(deleted.getId())).isFalse();
+        assertThat(countOrders(shard, deleted.getId())).isZero();
+        assertThat(countOrders(orderShards.forCustomer(kept.getId()), kept.getId())).isEqualTo(3);
+        Long itemsLeft = shard.jdbcTemplate().getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) FROM order_items i LEFT JOIN orders o ON o.id = i.order_id WHERE o.id IS NULL",
+                Long.class);
+        assertThat(itemsLeft).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply the usual status transition rules")
+    void shouldRejectInvalidTransition() {
+        Long id = created.get(0).getId();
+
+        assertThatThrownBy(() -> shardedOrderService.updateStatus(id, OrderStatus.COMPLETED))
+                .isInstanceOf(BusinessException.class);
+        assertThat(shardedOrderService.findById(id).getStatus()).isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("Should reject sorting cross-shard lists by anything but createdAt")
+    void shouldRejectOtherSorts() {
+        assertThatThrownBy(() -> shardedOrderService.findAll(CreatedRange.ALL,
+                PageRequest.of(0, 10, Sort.by("totalAmount"))))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private OrderRequestDTO request(Long customerId, int quantity) {
+        return OrderRequestDTO.builder()
+                .customerId(customerId)
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productName("Product")
+                        .quantity(quantity)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build()))
+                .build();
+    }
+
+    private long countOrders(OrderShards.Shard shard, Long customerId) {
+        Long count = shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM orders WHERE customer_id = :customerId",
+                new MapSqlParameterSource("customerId", customerId), Long.class);
+        return count != null ? count : 0;
+    }
+
+    private void cleanUp() {
+        for (OrderShards.Shard shard : orderShards.all()) {
+            shard.jdbcTemplate().getJdbcTemplate().update("DELETE FROM orders");
+        }
+        customerRepository.deleteAll();
+        customers.clear();
+        created.clear();
+    }
+}